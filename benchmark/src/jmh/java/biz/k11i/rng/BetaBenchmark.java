@@ -1,11 +1,11 @@
 package biz.k11i.rng;
 
-import biz.k11i.rng.util.MtRandom;
 import biz.k11i.rng.util.ParameterPool;
+import biz.k11i.rng.util.UniformRandomSupplier;
 import org.apache.commons.math3.distribution.BetaDistribution;
-import org.apache.commons.math3.random.MersenneTwister;
 import org.apache.commons.math3.random.RandomGenerator;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -36,15 +36,23 @@ public class BetaBenchmark {
         private double alpha;
         private double beta;
 
-        private Random random = new MtRandom();
+        @Param({"MERSENNE_TWISTER", "XOSHIRO_256_PLUS_PLUS", "XOROSHIRO_128_PLUS_PLUS"})
+        public UniformRandomSupplier uniformRandomSupplier;
+
+        private Random random;
         private BetaDistribution commonsMath;
+        private BetaSampler fastRngSampler;
+        private BetaSampler generalRngSampler;
 
         @Setup
         public void setUp() {
             String[] items = parameters.split(":");
             alpha = Double.valueOf(items[0]);
             beta = Double.valueOf(items[1]);
-            commonsMath = new BetaDistribution(alpha, beta);
+            random = uniformRandomSupplier.newRandom();
+            commonsMath = new BetaDistribution(uniformRandomSupplier.newRandomGenerator(), alpha, beta);
+            fastRngSampler = BetaRNG.FAST_RNG.sampler(alpha, beta);
+            generalRngSampler = BetaRNG.GENERAL_RNG.sampler(alpha, beta);
         }
 
         @Benchmark
@@ -61,15 +69,49 @@ public class BetaBenchmark {
         public double generalRng() {
             return BetaRNG.GENERAL_RNG.generate(random, alpha, beta);
         }
+
+        @Benchmark
+        public double fastRngSampler() {
+            return fastRngSampler.generate(random);
+        }
+
+        @Benchmark
+        public double generalRngSampler() {
+            return generalRngSampler.generate(random);
+        }
     }
 
     @State(Scope.Benchmark)
     public static class ArbitraryParameters {
-        private Random random = new MtRandom();
-        private RandomGenerator randomGenerator = new MersenneTwister();
+        private static final int BATCH_SIZE = 10000;
+
+        @Param({"MERSENNE_TWISTER", "XOSHIRO_256_PLUS_PLUS", "XOROSHIRO_128_PLUS_PLUS"})
+        public UniformRandomSupplier uniformRandomSupplier;
+
+        private Random random;
+        private RandomGenerator randomGenerator;
 
         private ParameterPool alphaParameters = new ParameterPool(12345, 10000, 10.0);
         private ParameterPool betaParameters = new ParameterPool(23456, 9997, 100.0);
+        private BetaSampler fastRngSampler = BetaRNG.FAST_RNG.sampler(1.0, 1.0);
+
+        private double[] alphas = new double[BATCH_SIZE];
+        private double[] betas = new double[BATCH_SIZE];
+        private double[] out = new double[BATCH_SIZE];
+
+        @Setup
+        public void setUp() {
+            random = uniformRandomSupplier.newRandom();
+            randomGenerator = uniformRandomSupplier.newRandomGenerator();
+
+            ParameterPool alphaPool = new ParameterPool(12345, 10000, 10.0);
+            ParameterPool betaPool = new ParameterPool(23456, 9997, 100.0);
+
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                alphas[i] = alphaPool.next();
+                betas[i] = betaPool.next();
+            }
+        }
 
         @Benchmark
         public double commonsMath() {
@@ -85,5 +127,43 @@ public class BetaBenchmark {
         public double generalRng() {
             return BetaRNG.GENERAL_RNG.generate(random, alphaParameters.next(), betaParameters.next());
         }
+
+        @Benchmark
+        @OperationsPerInvocation(BATCH_SIZE)
+        public double[] fastRngLoop() {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                out[i] = BetaRNG.FAST_RNG.generate(random, alphas[i], betas[i]);
+            }
+            return out;
+        }
+
+        @Benchmark
+        @OperationsPerInvocation(BATCH_SIZE)
+        public double[] fastRngBatch() {
+            BetaRNG.FAST_RNG.generate(random, alphas, betas, out);
+            return out;
+        }
+
+        @Benchmark
+        @OperationsPerInvocation(BATCH_SIZE)
+        public double[] generalRngLoop() {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                out[i] = BetaRNG.GENERAL_RNG.generate(random, alphas[i], betas[i]);
+            }
+            return out;
+        }
+
+        @Benchmark
+        @OperationsPerInvocation(BATCH_SIZE)
+        public double[] generalRngBatch() {
+            BetaRNG.GENERAL_RNG.generate(random, alphas, betas, out);
+            return out;
+        }
+
+        @Benchmark
+        public double fastRngSamplerPerUpdate() {
+            fastRngSampler = BetaRNG.FAST_RNG.sampler(alphaParameters.next(), betaParameters.next());
+            return fastRngSampler.generate(random);
+        }
     }
 }
@@ -0,0 +1,84 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generation into direct buffers with the generation into {@code double[]} followed by a copy.
+ * <p>
+ * The scores are the bytes written per second.
+ * </p>
+ */
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BufferFillBenchmark {
+    private static final int SIZE = 1 << 20;
+    private static final int BYTES = SIZE * Double.BYTES;
+
+    private final Random random = new Xoshiro256PlusPlus();
+    private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(BYTES).order(ByteOrder.nativeOrder());
+    private final DoubleBuffer doubleBuffer = byteBuffer.asDoubleBuffer();
+    private final LongBuffer longBuffer = byteBuffer.asLongBuffer();
+    private final double[] array = new double[SIZE];
+
+    @Benchmark
+    @OperationsPerInvocation(BYTES)
+    public DoubleBuffer gaussianArrayAndCopy() {
+        GaussianRNG.FAST_RNG.fill(random, array, 0, SIZE);
+        doubleBuffer.clear();
+        doubleBuffer.put(array);
+        return doubleBuffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BYTES)
+    public DoubleBuffer gaussianDirect() {
+        doubleBuffer.clear();
+        GaussianRNG.FAST_RNG.fill(random, doubleBuffer);
+        return doubleBuffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BYTES)
+    public DoubleBuffer exponentialArrayAndCopy() {
+        ExponentialRNG.FAST_RNG.fill(random, array, 0, SIZE, 1.0);
+        doubleBuffer.clear();
+        doubleBuffer.put(array);
+        return doubleBuffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BYTES)
+    public DoubleBuffer exponentialDirect() {
+        doubleBuffer.clear();
+        ExponentialRNG.FAST_RNG.fill(random, doubleBuffer, 1.0);
+        return doubleBuffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BYTES)
+    public LongBuffer uniformLongDirect() {
+        longBuffer.clear();
+        UniformRNGUtils.fill(random, longBuffer);
+        return longBuffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BYTES)
+    public ByteBuffer uniformBytesDirect() {
+        byteBuffer.clear();
+        UniformRNGUtils.fill(random, byteBuffer);
+        return byteBuffer;
+    }
+}
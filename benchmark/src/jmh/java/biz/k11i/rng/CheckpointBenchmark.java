@@ -0,0 +1,48 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Checkpointable;
+import biz.k11i.rng.util.UniformRandomSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Measures the cost of saving and restoring the state of the uniform random number generators.
+ */
+@State(Scope.Thread)
+public class CheckpointBenchmark {
+    @Param({"XOSHIRO_256_PLUS_PLUS", "XOROSHIRO_128_PLUS_PLUS", "PCG64_DXSM", "SPLIT_MIX_64", "PHILOX_4X64"})
+    public UniformRandomSupplier supplier;
+
+    private Random random;
+    private Checkpointable checkpointable;
+    private long[] state;
+
+    @Setup
+    public void setUp() {
+        random = supplier.newRandom();
+        checkpointable = (Checkpointable) random;
+        state = checkpointable.saveState();
+    }
+
+    @Benchmark
+    public long[] saveState() {
+        return checkpointable.saveState();
+    }
+
+    @Benchmark
+    public Object restoreState() {
+        checkpointable.restoreState(state);
+        return checkpointable;
+    }
+
+    @Benchmark
+    public double saveStateAndGaussian() {
+        state = checkpointable.saveState();
+        return GaussianRNG.FAST_RNG.generate(random);
+    }
+}
@@ -0,0 +1,74 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to generate a random vector of dimension {@code k}.
+ * <p>
+ * {@code naive} is the textbook implementation for comparison,
+ * which allocates the output for each vector and normalizes {@link GammaRNG#FAST_RNG} random values;
+ * its result is {@code NaN} for {@code alpha = 0.001} when all the gamma random values underflow to 0.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class DirichletBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int k;
+
+    @Param({"0.001", "0.1", "2.0"})
+    public double alpha;
+
+    private final Random random = new Xoshiro256PlusPlus();
+
+    private double[] alphas;
+    private double[] out;
+    private DirichletSampler sampler;
+
+    @Setup
+    public void setUp() {
+        alphas = new double[k];
+        Arrays.fill(alphas, alpha);
+        out = new double[k];
+        sampler = DirichletRNG.FAST_RNG.sampler(alphas);
+    }
+
+    @Benchmark
+    public double[] generate() {
+        DirichletRNG.FAST_RNG.generate(random, alphas, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] sampler() {
+        sampler.generate(random, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] naive() {
+        double[] x = new double[k];
+        double sum = 0;
+        for (int i = 0; i < k; i++) {
+            x[i] = GammaRNG.FAST_RNG.generate(random, alphas[i], 1.0);
+            sum += x[i];
+        }
+        for (int i = 0; i < k; i++) {
+            x[i] /= sum;
+        }
+        return x;
+    }
+}
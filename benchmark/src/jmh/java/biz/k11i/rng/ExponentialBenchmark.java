@@ -1,17 +1,26 @@
 package biz.k11i.rng;
 
+import biz.k11i.rng.uniform.Xoroshiro128PlusPlus;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
 import biz.k11i.rng.util.ThreadLocalRandomGenerator;
 import org.apache.commons.math3.distribution.ExponentialDistribution;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
+import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 @State(Scope.Benchmark)
 public class ExponentialBenchmark {
+    private static final int BATCH_SIZE = 1024;
+
     private ExponentialDistribution exponentialDistribution;
+    private final double[] buffer = new double[BATCH_SIZE];
+    private final Random xoshiro256PlusPlus = new Xoshiro256PlusPlus();
+    private final Random xoroshiro128PlusPlus = new Xoroshiro128PlusPlus();
 
     @Setup
     public void setUp() {
@@ -35,4 +44,75 @@ public class ExponentialBenchmark {
     public double fastRng_general() {
         return ExponentialRNG.GENERAL_RNG.generate(ThreadLocalRandom.current(), 1.0);
     }
+
+    @Benchmark
+    public double fastRng_modified() {
+        return ExponentialRNG.MODIFIED_ZIGGURAT.generate(ThreadLocalRandom.current(), 1.0);
+    }
+
+    @Benchmark
+    public double fastRng_fast_xoshiro256PlusPlus() {
+        return ExponentialRNG.FAST_RNG.generate(xoshiro256PlusPlus, 1.0);
+    }
+
+    @Benchmark
+    public double fastRng_fast_xoroshiro128PlusPlus() {
+        return ExponentialRNG.FAST_RNG.generate(xoroshiro128PlusPlus, 1.0);
+    }
+
+    @Benchmark
+    public double fastRng_general_xoshiro256PlusPlus() {
+        return ExponentialRNG.GENERAL_RNG.generate(xoshiro256PlusPlus, 1.0);
+    }
+
+    @Benchmark
+    public double fastRng_general_xoroshiro128PlusPlus() {
+        return ExponentialRNG.GENERAL_RNG.generate(xoroshiro128PlusPlus, 1.0);
+    }
+
+    @Benchmark
+    public double fastRng_modified_xoshiro256PlusPlus() {
+        return ExponentialRNG.MODIFIED_ZIGGURAT.generate(xoshiro256PlusPlus, 1.0);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] fastRng_fast_loop() {
+        Random random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            buffer[i] = ExponentialRNG.FAST_RNG.generate(random, 1.0);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] fastRng_fast_fill() {
+        ExponentialRNG.FAST_RNG.fill(ThreadLocalRandom.current(), buffer, 0, BATCH_SIZE, 1.0);
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] fastRng_general_loop() {
+        Random random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            buffer[i] = ExponentialRNG.GENERAL_RNG.generate(random, 1.0);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] fastRng_general_fill() {
+        ExponentialRNG.GENERAL_RNG.fill(ThreadLocalRandom.current(), buffer, 0, BATCH_SIZE, 1.0);
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] fastRng_modified_fill() {
+        ExponentialRNG.MODIFIED_ZIGGURAT.fill(ThreadLocalRandom.current(), buffer, 0, BATCH_SIZE, 1.0);
+        return buffer;
+    }
 }
@@ -0,0 +1,78 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Compares the single precision generators with the double precision ones.
+ * <p>
+ * The scores are the numbers of values per unit time.
+ * </p>
+ */
+@State(Scope.Thread)
+public class FloatBenchmark {
+    private static final int SIZE = 1 << 16;
+
+    private final Random random = new Xoshiro256PlusPlus();
+    private final double[] doubles = new double[SIZE];
+    private final float[] floats = new float[SIZE];
+
+    @Benchmark
+    public double gaussianDouble() {
+        return GaussianRNG.FAST_RNG.generate(random);
+    }
+
+    @Benchmark
+    public float gaussianFloat() {
+        return FloatGaussianRNG.FAST_RNG.generate(random);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] gaussianFillDouble() {
+        GaussianRNG.FAST_RNG.fill(random, doubles, 0, SIZE);
+        return doubles;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float[] gaussianFillFloat() {
+        FloatGaussianRNG.FAST_RNG.fill(random, floats, 0, SIZE);
+        return floats;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] exponentialFillDouble() {
+        ExponentialRNG.FAST_RNG.fill(random, doubles, 0, SIZE, 1.0);
+        return doubles;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float[] exponentialFillFloat() {
+        FloatExponentialRNG.FAST_RNG.fill(random, floats, 0, SIZE, 1.0f);
+        return floats;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] uniformFillDouble() {
+        for (int i = 0; i < SIZE; i++) {
+            doubles[i] = random.nextDouble();
+        }
+        return doubles;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public float[] uniformFillFloat() {
+        UniformRNGUtils.fill(random, floats, 0, SIZE);
+        return floats;
+    }
+}
@@ -1,10 +1,11 @@
 package biz.k11i.rng;
 
-import biz.k11i.rng.util.MtRandom;
 import biz.k11i.rng.util.ParameterPool;
+import biz.k11i.rng.util.UniformRandomSupplier;
 import org.apache.commons.math3.distribution.GammaDistribution;
-import org.apache.commons.math3.random.MersenneTwister;
+import org.apache.commons.math3.random.RandomGenerator;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
@@ -19,16 +20,24 @@ public class GammaBenchmark {
         public double shape;
         public double scale = 1.0;
 
-        private Random random = new MtRandom();
+        @Param({"MERSENNE_TWISTER", "XOSHIRO_256_PLUS_PLUS", "XOROSHIRO_128_PLUS_PLUS"})
+        public UniformRandomSupplier uniformRandomSupplier;
+
+        private Random random;
         private GammaDistribution gammaDistribution;
+        private GammaSampler fastRngSampler;
+        private GammaSampler generalRngSampler;
 
         @Setup
         public void setUp() {
+            random = uniformRandomSupplier.newRandom();
             gammaDistribution = new GammaDistribution(
-                    new MersenneTwister(),
+                    uniformRandomSupplier.newRandomGenerator(),
                     shape,
                     scale,
                     GammaDistribution.DEFAULT_INVERSE_ABSOLUTE_ACCURACY);
+            fastRngSampler = GammaRNG.FAST_RNG.sampler(shape, scale);
+            generalRngSampler = GammaRNG.GENERAL_RNG.sampler(shape, scale);
         }
 
         @Benchmark
@@ -45,18 +54,47 @@ public class GammaBenchmark {
         public double generalRng() {
             return GammaRNG.GENERAL_RNG.generate(random, shape, scale);
         }
+
+        @Benchmark
+        public double fastRngSampler() {
+            return fastRngSampler.generate(random);
+        }
+
+        @Benchmark
+        public double generalRngSampler() {
+            return generalRngSampler.generate(random);
+        }
     }
 
     @State(Scope.Benchmark)
     public static class ArbitraryParameters {
+        private static final int BATCH_SIZE = 10000;
+
+        @Param({"MERSENNE_TWISTER", "XOSHIRO_256_PLUS_PLUS", "XOROSHIRO_128_PLUS_PLUS"})
+        public UniformRandomSupplier uniformRandomSupplier;
+
         private double scale = 1.0;
-        private Random random = new MtRandom();
-        private MersenneTwister mersenneTwister = new MersenneTwister();
+        private Random random;
+        private RandomGenerator randomGenerator;
         private ParameterPool parameters = new ParameterPool(12345, 10000, 10.0);
 
+        private double[] shapes = new double[BATCH_SIZE];
+        private double[] out = new double[BATCH_SIZE];
+
+        @Setup
+        public void setUp() {
+            random = uniformRandomSupplier.newRandom();
+            randomGenerator = uniformRandomSupplier.newRandomGenerator();
+
+            ParameterPool pool = new ParameterPool(12345, 10000, 10.0);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                shapes[i] = pool.next();
+            }
+        }
+
         @Benchmark
         public double commonsMath3() {
-            return new GammaDistribution(mersenneTwister, parameters.next(), scale, GammaDistribution.DEFAULT_INVERSE_ABSOLUTE_ACCURACY).sample();
+            return new GammaDistribution(randomGenerator, parameters.next(), scale, GammaDistribution.DEFAULT_INVERSE_ABSOLUTE_ACCURACY).sample();
         }
 
         @Benchmark
@@ -68,5 +106,37 @@ public class GammaBenchmark {
         public double generalRng() {
             return GammaRNG.GENERAL_RNG.generate(random, parameters.next(), scale);
         }
+
+        @Benchmark
+        @OperationsPerInvocation(BATCH_SIZE)
+        public double[] fastRngLoop() {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                out[i] = GammaRNG.FAST_RNG.generate(random, shapes[i], scale);
+            }
+            return out;
+        }
+
+        @Benchmark
+        @OperationsPerInvocation(BATCH_SIZE)
+        public double[] fastRngBatch() {
+            GammaRNG.FAST_RNG.generate(random, shapes, scale, out);
+            return out;
+        }
+
+        @Benchmark
+        @OperationsPerInvocation(BATCH_SIZE)
+        public double[] generalRngLoop() {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                out[i] = GammaRNG.GENERAL_RNG.generate(random, shapes[i], scale);
+            }
+            return out;
+        }
+
+        @Benchmark
+        @OperationsPerInvocation(BATCH_SIZE)
+        public double[] generalRngBatch() {
+            GammaRNG.GENERAL_RNG.generate(random, shapes, scale, out);
+            return out;
+        }
     }
 }
@@ -1,6 +1,9 @@
 package biz.k11i.rng;
 
+import biz.k11i.rng.uniform.Xoroshiro128PlusPlus;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 
@@ -9,8 +12,15 @@ import java.util.concurrent.ThreadLocalRandom;
 
 @State(Scope.Thread)
 public class GaussianBenchmark {
+    private static final int BATCH_SIZE = 1024;
+
     private static Random javaUtilRandom = new Random();
 
+    private final Random xoshiro256PlusPlus = new Xoshiro256PlusPlus();
+    private final Random xoroshiro128PlusPlus = new Xoroshiro128PlusPlus();
+
+    private final double[] buffer = new double[BATCH_SIZE];
+
     @Benchmark
     public double javaUtilRandom() {
         return javaUtilRandom.nextGaussian();
@@ -31,6 +41,16 @@ public class GaussianBenchmark {
         return GaussianRNG.FAST_RNG.generate(javaUtilRandom);
     }
 
+    @Benchmark
+    public double fastRngWithXoshiro256PlusPlus() {
+        return GaussianRNG.FAST_RNG.generate(xoshiro256PlusPlus);
+    }
+
+    @Benchmark
+    public double fastRngWithXoroshiro128PlusPlus() {
+        return GaussianRNG.FAST_RNG.generate(xoroshiro128PlusPlus);
+    }
+
     @Benchmark
     public double generalRngWithThreadLocalRandom() {
         return GaussianRNG.GENERAL_RNG.generate(ThreadLocalRandom.current());
@@ -40,4 +60,79 @@ public class GaussianBenchmark {
     public double generalRngWithJavaUtilRandom() {
         return GaussianRNG.GENERAL_RNG.generate(javaUtilRandom);
     }
+
+    @Benchmark
+    public double generalRngWithXoshiro256PlusPlus() {
+        return GaussianRNG.GENERAL_RNG.generate(xoshiro256PlusPlus);
+    }
+
+    @Benchmark
+    public double generalRngWithXoroshiro128PlusPlus() {
+        return GaussianRNG.GENERAL_RNG.generate(xoroshiro128PlusPlus);
+    }
+
+    @Benchmark
+    public double modifiedZigguratWithThreadLocalRandom() {
+        return GaussianRNG.MODIFIED_ZIGGURAT.generate(ThreadLocalRandom.current());
+    }
+
+    @Benchmark
+    public double modifiedZigguratWithXoshiro256PlusPlus() {
+        return GaussianRNG.MODIFIED_ZIGGURAT.generate(xoshiro256PlusPlus);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] fastRngLoopWithThreadLocalRandom() {
+        Random random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            buffer[i] = GaussianRNG.FAST_RNG.generate(random);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] fastRngFillWithThreadLocalRandom() {
+        GaussianRNG.FAST_RNG.fill(ThreadLocalRandom.current(), buffer, 0, BATCH_SIZE);
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] fastRngFillWithXoshiro256PlusPlus() {
+        GaussianRNG.FAST_RNG.fill(xoshiro256PlusPlus, buffer, 0, BATCH_SIZE);
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] generalRngLoopWithThreadLocalRandom() {
+        Random random = ThreadLocalRandom.current();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            buffer[i] = GaussianRNG.GENERAL_RNG.generate(random);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] generalRngFillWithThreadLocalRandom() {
+        GaussianRNG.GENERAL_RNG.fill(ThreadLocalRandom.current(), buffer, 0, BATCH_SIZE);
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] modifiedZigguratFillWithThreadLocalRandom() {
+        GaussianRNG.MODIFIED_ZIGGURAT.fill(ThreadLocalRandom.current(), buffer, 0, BATCH_SIZE);
+        return buffer;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public double[] modifiedZigguratFillWithXoshiro256PlusPlus() {
+        GaussianRNG.MODIFIED_ZIGGURAT.fill(xoshiro256PlusPlus, buffer, 0, BATCH_SIZE);
+        return buffer;
+    }
 }
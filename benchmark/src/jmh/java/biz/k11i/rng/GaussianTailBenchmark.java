@@ -0,0 +1,29 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link GaussianRNG#tail(UniformSource, double)} with the tail sampler evaluating two {@code log} per round,
+ * which {@link GaussianRNG.ZigguratGeneral} uses, at several truncation points.
+ */
+@State(Scope.Thread)
+public class GaussianTailBenchmark {
+    @Param({"0.5", "1.0", "2.0", "3.654", "6.0", "10.0"})
+    public double r;
+
+    private final UniformSource source = new Xoshiro256PlusPlus()::nextLong;
+
+    @Benchmark
+    public double tail() {
+        return GaussianRNG.tail(source, r);
+    }
+
+    @Benchmark
+    public double logTail() {
+        return GaussianRNG.ZigguratBase.tail(source, r);
+    }
+}
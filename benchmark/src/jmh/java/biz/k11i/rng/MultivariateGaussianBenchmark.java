@@ -0,0 +1,108 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to generate {@value #NUM_ROWS} random vectors of dimension {@code d}.
+ * <p>
+ * {@code naive} is the textbook implementation for comparison,
+ * which allocates {@code z} for each vector and reads the Cholesky factor of {@code double[][]} for each vector.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class MultivariateGaussianBenchmark {
+    private static final int NUM_ROWS = 1000;
+
+    @Param({"10", "100", "1000"})
+    public int d;
+
+    private final Random random = new Xoshiro256PlusPlus();
+
+    private MultivariateGaussianRNG rng;
+    private double[] mean;
+    private double[][] factor;
+    private double[] dst;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        mean = new double[d];
+        double[][] covariance = new double[d][d];
+        for (int i = 0; i < d; i++) {
+            for (int j = 0; j < d; j++) {
+                covariance[i][j] = Math.pow(0.5, Math.abs(i - j));
+            }
+        }
+
+        rng = MultivariateGaussianRNG.of(mean, covariance);
+        factor = cholesky(covariance);
+        dst = new double[NUM_ROWS * d];
+        pool = new ForkJoinPool();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static double[][] cholesky(double[][] a) {
+        int d = a.length;
+        double[][] l = new double[d][d];
+        for (int i = 0; i < d; i++) {
+            for (int j = 0; j <= i; j++) {
+                double sum = a[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[i][k] * l[j][k];
+                }
+                l[i][j] = i == j ? Math.sqrt(sum) : sum / l[j][j];
+            }
+        }
+        return l;
+    }
+
+    @Benchmark
+    public double[] generate() {
+        rng.generate(random, dst, 0, NUM_ROWS);
+        return dst;
+    }
+
+    @Benchmark
+    public double[] generateParallel() {
+        rng.generate(dst, 0, NUM_ROWS, 12345, pool);
+        return dst;
+    }
+
+    @Benchmark
+    public double[] naive() {
+        for (int r = 0; r < NUM_ROWS; r++) {
+            double[] z = new double[d];
+            for (int i = 0; i < d; i++) {
+                z[i] = GaussianRNG.FAST_RNG.generate(random);
+            }
+
+            for (int i = 0; i < d; i++) {
+                double s = mean[i];
+                for (int j = 0; j <= i; j++) {
+                    s += factor[i][j] * z[j];
+                }
+                dst[r * d + i] = s;
+            }
+        }
+        return dst;
+    }
+}
@@ -1,11 +1,14 @@
 package biz.k11i.rng;
 
+import biz.k11i.rng.uniform.Xoroshiro128PlusPlus;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 
+import java.util.Random;
 import java.util.SplittableRandom;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.IntStream;
@@ -19,6 +22,9 @@ public class NextIntWithBoundBenchmark {
         })
         private int bound;
 
+        private final Random xoshiro256PlusPlus = new Xoshiro256PlusPlus();
+        private final Random xoroshiro128PlusPlus = new Xoroshiro128PlusPlus();
+
         @Benchmark
         public int jdk() {
             return ThreadLocalRandom.current().nextInt(bound);
@@ -28,6 +34,16 @@ public class NextIntWithBoundBenchmark {
         public int nearlyDivisionless() {
             return UniformRNGUtils.nextInt(ThreadLocalRandom.current(), bound);
         }
+
+        @Benchmark
+        public int nearlyDivisionlessWithXoshiro256PlusPlus() {
+            return UniformRNGUtils.nextInt(xoshiro256PlusPlus, bound);
+        }
+
+        @Benchmark
+        public int nearlyDivisionlessWithXoroshiro128PlusPlus() {
+            return UniformRNGUtils.nextInt(xoroshiro128PlusPlus, bound);
+        }
     }
 
     @State(Scope.Benchmark)
@@ -36,6 +52,9 @@ public class NextIntWithBoundBenchmark {
         private int[] bounds;
         private int index;
 
+        private final Random xoshiro256PlusPlus = new Xoshiro256PlusPlus();
+        private final Random xoroshiro128PlusPlus = new Xoroshiro128PlusPlus();
+
         @Setup
         public void setUp() {
             SplittableRandom r = new SplittableRandom(12345);
@@ -56,5 +75,17 @@ public class NextIntWithBoundBenchmark {
             index = (index + 1) & (NUM_BOUNDS - 1);
             return UniformRNGUtils.nextInt(ThreadLocalRandom.current(), bounds[index]);
         }
+
+        @Benchmark
+        public int nearlyDivisionlessWithXoshiro256PlusPlus() {
+            index = (index + 1) & (NUM_BOUNDS - 1);
+            return UniformRNGUtils.nextInt(xoshiro256PlusPlus, bounds[index]);
+        }
+
+        @Benchmark
+        public int nearlyDivisionlessWithXoroshiro128PlusPlus() {
+            index = (index + 1) & (NUM_BOUNDS - 1);
+            return UniformRNGUtils.nextInt(xoroshiro128PlusPlus, bounds[index]);
+        }
     }
 }
@@ -0,0 +1,53 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.SplitMix64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ParallelFill} using the common pool with the sequential fill on a single thread.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParallelFillBenchmark {
+    private static final int SIZE = 10_000_000;
+
+    private final double[] dst = new double[SIZE];
+    private long seed;
+
+    @Benchmark
+    public double[] gaussianSequential() {
+        GaussianRNG.FAST_RNG.fill(new SplitMix64(seed++), dst, 0, SIZE);
+        return dst;
+    }
+
+    @Benchmark
+    public double[] gaussianParallel() {
+        ParallelFill.gaussian(dst, seed++, ForkJoinPool.commonPool());
+        return dst;
+    }
+
+    @Benchmark
+    public double[] gammaSequential() {
+        GammaSampler sampler = GammaRNG.FAST_RNG.sampler(2.5, 1.0);
+        SplitMix64 random = new SplitMix64(seed++);
+        for (int i = 0; i < SIZE; i++) {
+            dst[i] = sampler.generate(random);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public double[] gammaParallel() {
+        ParallelFill.gamma(dst, 2.5, 1.0, seed++, ForkJoinPool.commonPool());
+        return dst;
+    }
+}
@@ -0,0 +1,87 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.pool.RandomPool;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Measures the throughput of writing {@link RandomPool} files and of reading them through memory mapping,
+ * compared with generating the same values on the fly.
+ * <p>
+ * The scores are the numbers of 8-byte values per unit time; multiply them by 8 to get bytes per unit time.
+ * </p>
+ */
+@State(Scope.Thread)
+public class RandomPoolBenchmark {
+    private static final int SIZE = 1 << 22;
+    private static final RandomPool.Header HEADER =
+            new RandomPool.Header("gaussian", new double[]{0.0, 1.0}, 12345, "Xoshiro256PlusPlus");
+
+    private final Random random = new Xoshiro256PlusPlus(12345);
+
+    private Path writePath;
+    private Path readPath;
+    private RandomPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        writePath = Files.createTempFile("write", ".pool");
+        readPath = Files.createTempFile("read", ".pool");
+
+        RandomPool.write(readPath, HEADER, SIZE, RandomPool.gaussian(GaussianRNG.FAST_RNG, random, 0.0, 1.0));
+        pool = RandomPool.open(readPath);
+
+        // touch all the pages so that the page cache is warm
+        DoubleSupplier doubles = pool.doubles();
+        for (int i = 0; i < SIZE; i++) {
+            doubles.getAsDouble();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        pool.close();
+        Files.deleteIfExists(writePath);
+        Files.deleteIfExists(readPath);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void writeGaussian() throws IOException {
+        RandomPool.write(writePath, HEADER, SIZE, RandomPool.gaussian(GaussianRNG.FAST_RNG, random, 0.0, 1.0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double readMapped() {
+        DoubleSupplier doubles = pool.doubles();
+
+        double sum = 0.0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += doubles.getAsDouble();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double generateGaussian() {
+        double sum = 0.0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += GaussianRNG.FAST_RNG.generate(random);
+        }
+        return sum;
+    }
+}
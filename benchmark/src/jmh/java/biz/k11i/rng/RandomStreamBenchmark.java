@@ -0,0 +1,43 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.SplitMix64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+
+/**
+ * Compares the streams of {@link GaussianRNG#stream(long, long)} with {@link DoubleStream#generate}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RandomStreamBenchmark {
+    private static final int SIZE = 10_000_000;
+
+    private long seed;
+
+    @Benchmark
+    public double generateAndLimit() {
+        Random random = new SplitMix64(seed++);
+        return DoubleStream.generate(() -> GaussianRNG.FAST_RNG.generate(random))
+                .limit(SIZE)
+                .sum();
+    }
+
+    @Benchmark
+    public double streamSequential() {
+        return GaussianRNG.FAST_RNG.stream(seed++, SIZE).sum();
+    }
+
+    @Benchmark
+    public double streamParallel() {
+        return GaussianRNG.FAST_RNG.stream(seed++, SIZE).parallel().sum();
+    }
+}
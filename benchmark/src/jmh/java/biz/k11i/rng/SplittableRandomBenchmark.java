@@ -0,0 +1,58 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.util.SplittableRandomWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Compares the {@link SplittableRandom} overloads with the route through a {@link Random} wrapper.
+ */
+@State(Scope.Thread)
+public class SplittableRandomBenchmark {
+    private final SplittableRandom splittableRandom = new SplittableRandom();
+    private final Random wrapper = new SplittableRandomWrapper(new SplittableRandom());
+
+    @Benchmark
+    public double gaussian() {
+        return GaussianRNG.FAST_RNG.generate(splittableRandom);
+    }
+
+    @Benchmark
+    public double gaussianWithWrapper() {
+        return GaussianRNG.FAST_RNG.generate(wrapper);
+    }
+
+    @Benchmark
+    public double exponential() {
+        return ExponentialRNG.FAST_RNG.generate(splittableRandom, 1.0);
+    }
+
+    @Benchmark
+    public double exponentialWithWrapper() {
+        return ExponentialRNG.FAST_RNG.generate(wrapper, 1.0);
+    }
+
+    @Benchmark
+    public double gamma() {
+        return GammaRNG.FAST_RNG.generate(splittableRandom, 2.5, 1.0);
+    }
+
+    @Benchmark
+    public double gammaWithWrapper() {
+        return GammaRNG.FAST_RNG.generate(wrapper, 2.5, 1.0);
+    }
+
+    @Benchmark
+    public double beta() {
+        return BetaRNG.FAST_RNG.generate(splittableRandom, 2.0, 3.0);
+    }
+
+    @Benchmark
+    public double betaWithWrapper() {
+        return BetaRNG.FAST_RNG.generate(wrapper, 2.0, 3.0);
+    }
+}
@@ -0,0 +1,40 @@
+package biz.k11i.rng;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Random;
+
+/**
+ * Compares {@link ThreadLocalRNG} with {@link Random} shared among threads.
+ * <p>
+ * Run with {@code -t 1} as well to see how the throughput scales with the number of threads.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@Threads(Threads.MAX)
+public class ThreadLocalRNGBenchmark {
+    private final Random sharedRandom = new Random();
+
+    @Benchmark
+    public double gaussianWithSharedRandom() {
+        return GaussianRNG.FAST_RNG.generate(sharedRandom);
+    }
+
+    @Benchmark
+    public double gaussianWithThreadLocalRNG() {
+        return ThreadLocalRNG.gaussian();
+    }
+
+    @Benchmark
+    public double gammaWithSharedRandom() {
+        return GammaRNG.FAST_RNG.generate(sharedRandom, 2.5, 1.0);
+    }
+
+    @Benchmark
+    public double gammaWithThreadLocalRNG() {
+        return ThreadLocalRNG.gamma(2.5, 1.0);
+    }
+}
@@ -0,0 +1,78 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Compares {@link TruncatedGaussianRNG} with the naive rejection from {@link GaussianRNG#FAST_RNG}
+ * over narrow, wide and tail intervals of the standard gaussian distribution.
+ */
+@State(Scope.Thread)
+public class TruncatedGaussianBenchmark {
+    public enum Interval {
+        NARROW(0.5, 0.6),
+        CENTER(-0.5, 0.5),
+        MIDDLE(0.5, 2.0),
+        WIDE(-2.0, Double.POSITIVE_INFINITY),
+        HALF(0.0, Double.POSITIVE_INFINITY),
+        TAIL(3.0, Double.POSITIVE_INFINITY),
+        FAR_TAIL(6.0, 7.0);
+
+        final double lower;
+        final double upper;
+
+        Interval(double lower, double upper) {
+            this.lower = lower;
+            this.upper = upper;
+        }
+    }
+
+    @Param
+    public Interval interval;
+
+    private final Random random = new Xoshiro256PlusPlus();
+
+    private double lower;
+    private double upper;
+    private TruncatedGaussianSampler sampler;
+
+    @Setup
+    public void setUp() {
+        lower = interval.lower;
+        upper = interval.upper;
+        sampler = TruncatedGaussianRNG.FAST_RNG.sampler(0.0, 1.0, lower, upper);
+    }
+
+    @Benchmark
+    public double generate() {
+        return TruncatedGaussianRNG.FAST_RNG.generate(random, 0.0, 1.0, lower, upper);
+    }
+
+    @Benchmark
+    public double sampler() {
+        return sampler.generate(random);
+    }
+
+    /**
+     * Naive rejection, which is impractical for {@link Interval#FAR_TAIL}.
+     */
+    @Benchmark
+    public double naiveRejection() {
+        if (interval == Interval.FAR_TAIL) {
+            return Double.NaN;
+        }
+
+        while (true) {
+            double z = GaussianRNG.FAST_RNG.generate(random);
+            if (lower <= z && z <= upper) {
+                return z;
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.util.UniformRandomSupplier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Compares uniform random number generators as the source of each distribution.
+ */
+@State(Scope.Thread)
+public class UniformRandomBenchmark {
+    @Param({"THREAD_LOCAL_RANDOM",
+            "MERSENNE_TWISTER",
+            "XOSHIRO_256_PLUS_PLUS",
+            "XOROSHIRO_128_PLUS_PLUS",
+            "PCG64_DXSM",
+            "SPLIT_MIX_64",
+            "PHILOX_4X64"})
+    public UniformRandomSupplier uniformRandomSupplier;
+
+    private Random random;
+    private UniformSource source;
+
+    @Setup
+    public void setUp() {
+        random = uniformRandomSupplier.newRandom();
+        source = uniformRandomSupplier.newUniformSource();
+    }
+
+    @Benchmark
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Benchmark
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Benchmark
+    public int nextIntWithBound() {
+        return UniformRNGUtils.nextInt(random, 1048577);
+    }
+
+    @Benchmark
+    public double gaussian() {
+        return GaussianRNG.FAST_RNG.generate(random);
+    }
+
+    @Benchmark
+    public double exponential() {
+        return ExponentialRNG.FAST_RNG.generate(random, 1.0);
+    }
+
+    @Benchmark
+    public double gamma() {
+        return GammaRNG.FAST_RNG.generate(random, 2.5, 1.0);
+    }
+
+    @Benchmark
+    public double beta() {
+        return BetaRNG.FAST_RNG.generate(random, 2.0, 3.0);
+    }
+
+    @Benchmark
+    public double gaussianWithUniformSource() {
+        return GaussianRNG.FAST_RNG.generate(source);
+    }
+
+    @Benchmark
+    public double exponentialWithUniformSource() {
+        return ExponentialRNG.FAST_RNG.generate(source, 1.0);
+    }
+
+    @Benchmark
+    public double gammaWithUniformSource() {
+        return GammaRNG.FAST_RNG.generate(source, 2.5, 1.0);
+    }
+
+    @Benchmark
+    public double betaWithUniformSource() {
+        return BetaRNG.FAST_RNG.generate(source, 2.0, 3.0);
+    }
+}
@@ -0,0 +1,62 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Compares the generators drawing random values from {@link UniformSource} with those drawing from {@link Random}
+ * through the adapter of {@link UniformSources#of(Random)}.
+ * <p>
+ * Run it with {@code -prof gc}: {@code gc.alloc.rate.norm} should be 0 bytes/op for the {@link UniformSource} benchmarks,
+ * whereas the {@link Random} benchmarks of gamma and beta allocate one adapter of 16 bytes per value.
+ * </p>
+ */
+@State(Scope.Thread)
+public class UniformSourceBenchmark {
+    private final UniformSource source = new Xoshiro256PlusPlus()::nextLong;
+    private final Random random = new Xoshiro256PlusPlus();
+
+    @Benchmark
+    public double gaussian() {
+        return GaussianRNG.FAST_RNG.generate(source);
+    }
+
+    @Benchmark
+    public double gaussianWithRandom() {
+        return GaussianRNG.FAST_RNG.generate(random);
+    }
+
+    @Benchmark
+    public double exponential() {
+        return ExponentialRNG.FAST_RNG.generate(source, 1.0);
+    }
+
+    @Benchmark
+    public double exponentialWithRandom() {
+        return ExponentialRNG.FAST_RNG.generate(random, 1.0);
+    }
+
+    @Benchmark
+    public double gamma() {
+        return GammaRNG.FAST_RNG.generate(source, 2.5, 1.0);
+    }
+
+    @Benchmark
+    public double gammaWithRandom() {
+        return GammaRNG.FAST_RNG.generate(random, 2.5, 1.0);
+    }
+
+    @Benchmark
+    public double beta() {
+        return BetaRNG.FAST_RNG.generate(source, 0.8, 0.9);
+    }
+
+    @Benchmark
+    public double betaWithRandom() {
+        return BetaRNG.FAST_RNG.generate(random, 0.8, 0.9);
+    }
+}
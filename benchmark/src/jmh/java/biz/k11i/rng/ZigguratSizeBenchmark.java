@@ -0,0 +1,76 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Sweeps the number of the rectangles of the ziggurats.
+ * <p>
+ * Each operation generates a random value and adds it to an element of a working set of {@code workingSetKiB} KiB,
+ * which competes with the tables for the cache:
+ * 0 KiB measures the generator alone, 32 KiB fills a typical L1 data cache and 512 KiB a typical L2 cache.
+ * </p>
+ */
+@State(Scope.Thread)
+public class ZigguratSizeBenchmark {
+    @Param({"7", "8", "9", "10", "12"})
+    public int nBits;
+
+    @Param({"0", "32", "512"})
+    public int workingSetKiB;
+
+    private final Random random = new Xoshiro256PlusPlus();
+
+    private GaussianRNG gaussianFast;
+    private GaussianRNG gaussianGeneral;
+    private ExponentialRNG exponentialFast;
+    private ExponentialRNG exponentialGeneral;
+
+    private double[] workingSet;
+    private int mask;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        gaussianFast = GaussianRNG.ziggurat(nBits);
+        gaussianGeneral = GaussianRNG.generalZiggurat(nBits);
+        exponentialFast = ExponentialRNG.ziggurat(nBits);
+        exponentialGeneral = ExponentialRNG.generalZiggurat(nBits);
+
+        int length = Math.max(1, workingSetKiB * 1024 / Double.BYTES);
+        workingSet = new double[length];
+        mask = length - 1;
+    }
+
+    private double touch(double value) {
+        // the odd stride visits every element in an order that the hardware prefetcher cannot follow easily
+        index = (index + 4099) & mask;
+        return workingSet[index] += value;
+    }
+
+    @Benchmark
+    public double gaussianFast() {
+        return touch(gaussianFast.generate(random));
+    }
+
+    @Benchmark
+    public double gaussianGeneral() {
+        return touch(gaussianGeneral.generate(random));
+    }
+
+    @Benchmark
+    public double exponentialFast() {
+        return touch(exponentialFast.generate(random, 1.0));
+    }
+
+    @Benchmark
+    public double exponentialGeneral() {
+        return touch(exponentialGeneral.generate(random, 1.0));
+    }
+}
@@ -0,0 +1,32 @@
+package biz.k11i.rng.util;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * Wraps {@link SplittableRandom} in {@link Random} to compare with the {@link SplittableRandom} overloads.
+ */
+public class SplittableRandomWrapper extends Random {
+    private static final long serialVersionUID = 1L;
+
+    private final SplittableRandom splittableRandom;
+
+    public SplittableRandomWrapper(SplittableRandom splittableRandom) {
+        this.splittableRandom = splittableRandom;
+    }
+
+    @Override
+    public int nextInt() {
+        return splittableRandom.nextInt();
+    }
+
+    @Override
+    public long nextLong() {
+        return splittableRandom.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return splittableRandom.nextDouble();
+    }
+}
@@ -1,7 +1,14 @@
 package biz.k11i.rng.util;
 
+import biz.k11i.rng.UniformSource;
+import biz.k11i.rng.uniform.Pcg64Dxsm;
+import biz.k11i.rng.uniform.Philox4x64;
+import biz.k11i.rng.uniform.SplitMix64;
+import biz.k11i.rng.uniform.Xoroshiro128PlusPlus;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
 import org.apache.commons.math3.random.MersenneTwister;
 import org.apache.commons.math3.random.RandomGenerator;
+import org.apache.commons.math3.random.RandomGeneratorFactory;
 
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
@@ -9,29 +16,93 @@ import java.util.concurrent.ThreadLocalRandom;
 public enum UniformRandomSupplier {
     THREAD_LOCAL_RANDOM() {
         @Override
-        Random newRandom() {
+        public Random newRandom() {
             return ThreadLocalRandom.current();
         }
 
         @Override
-        RandomGenerator newRandomGenerator() {
+        public RandomGenerator newRandomGenerator() {
             return new ThreadLocalRandomGenerator();
         }
+
+        @Override
+        public UniformSource newUniformSource() {
+            return UniformSource.threadLocal();
+        }
     },
     MERSENNE_TWISTER() {
         @Override
-        Random newRandom() {
+        public Random newRandom() {
             return new MtRandom();
         }
 
         @Override
-        RandomGenerator newRandomGenerator() {
+        public RandomGenerator newRandomGenerator() {
             return new MersenneTwister();
         }
+    },
+    XOSHIRO_256_PLUS_PLUS() {
+        @Override
+        public Random newRandom() {
+            return new Xoshiro256PlusPlus();
+        }
+
+        @Override
+        public RandomGenerator newRandomGenerator() {
+            return RandomGeneratorFactory.createRandomGenerator(new Xoshiro256PlusPlus());
+        }
+    },
+    XOROSHIRO_128_PLUS_PLUS() {
+        @Override
+        public Random newRandom() {
+            return new Xoroshiro128PlusPlus();
+        }
+
+        @Override
+        public RandomGenerator newRandomGenerator() {
+            return RandomGeneratorFactory.createRandomGenerator(new Xoroshiro128PlusPlus());
+        }
+    },
+    PCG64_DXSM() {
+        @Override
+        public Random newRandom() {
+            return new Pcg64Dxsm();
+        }
+
+        @Override
+        public RandomGenerator newRandomGenerator() {
+            return RandomGeneratorFactory.createRandomGenerator(new Pcg64Dxsm());
+        }
+    },
+    SPLIT_MIX_64() {
+        @Override
+        public Random newRandom() {
+            return new SplitMix64();
+        }
+
+        @Override
+        public RandomGenerator newRandomGenerator() {
+            return RandomGeneratorFactory.createRandomGenerator(new SplitMix64());
+        }
+    },
+    PHILOX_4X64() {
+        @Override
+        public Random newRandom() {
+            return new Philox4x64();
+        }
+
+        @Override
+        public RandomGenerator newRandomGenerator() {
+            return RandomGeneratorFactory.createRandomGenerator(new Philox4x64());
+        }
     }
     ;
 
-    abstract Random newRandom();
+    public abstract Random newRandom();
 
-    abstract RandomGenerator newRandomGenerator();
+    public abstract RandomGenerator newRandomGenerator();
+
+    public UniformSource newUniformSource() {
+        return UniformSource.of(newRandom());
+    }
 }
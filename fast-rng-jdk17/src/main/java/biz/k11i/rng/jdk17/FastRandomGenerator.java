@@ -0,0 +1,94 @@
+package biz.k11i.rng.jdk17;
+
+import biz.k11i.rng.BetaRNG;
+import biz.k11i.rng.ExponentialRNG;
+import biz.k11i.rng.GammaRNG;
+import biz.k11i.rng.GaussianRNG;
+import biz.k11i.rng.UniformRNGUtils;
+import biz.k11i.rng.UniformSource;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * {@link RandomGenerator} whose {@link #nextGaussian()} and {@link #nextExponential()}
+ * are implemented by the ziggurats of this library.
+ * <p>
+ * It also implements {@link UniformSource}, so that any {@link RandomGenerator} such as {@code L64X128MixRandom}
+ * can be passed to {@link GaussianRNG#generate(UniformSource)}, {@link ExponentialRNG#generate(UniformSource, double)},
+ * {@link GammaRNG#generate(UniformSource, double, double)}, {@link BetaRNG#generate(UniformSource, double, double)}
+ * and {@link UniformRNGUtils#nextInt(UniformSource, int)}.
+ * The generators of this library ({@code FAST_RNG}, {@code GENERAL_RNG} and the modified ziggurats)
+ * draw random values from it directly;
+ * the other implementations of those interfaces may adapt it to {@link java.util.Random}.
+ * </p>
+ * <p>
+ * This class is shipped in the separate artifact {@code fast-rng-jdk17}, which requires Java 17 or later.
+ * </p>
+ */
+public final class FastRandomGenerator implements RandomGenerator, UniformSource {
+    private final RandomGenerator generator;
+
+    private FastRandomGenerator(RandomGenerator generator) {
+        this.generator = generator;
+    }
+
+    /**
+     * Returns {@link FastRandomGenerator} that draws uniform random numbers from the given generator.
+     *
+     * @param generator random number generator
+     * @return a random number generator
+     */
+    public static FastRandomGenerator of(RandomGenerator generator) {
+        if (generator instanceof FastRandomGenerator) {
+            return (FastRandomGenerator) generator;
+        }
+        return new FastRandomGenerator(generator);
+    }
+
+    /**
+     * Returns {@link FastRandomGenerator} that draws uniform random numbers
+     * from a new instance of the named algorithm.
+     *
+     * @param name name of the random number generator algorithm (e.g. {@code "L64X128MixRandom"})
+     * @return a random number generator
+     * @see RandomGenerator#of(String)
+     */
+    public static FastRandomGenerator of(String name) {
+        return new FastRandomGenerator(RandomGenerator.of(name));
+    }
+
+    @Override
+    public long nextLong() {
+        return generator.nextLong();
+    }
+
+    @Override
+    public int nextInt() {
+        return generator.nextInt();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return UniformRNGUtils.nextInt(this, bound);
+    }
+
+    @Override
+    public double nextDouble() {
+        return generator.nextDouble();
+    }
+
+    @Override
+    public double nextGaussian() {
+        return GaussianRNG.FAST_RNG.generate(this);
+    }
+
+    @Override
+    public double nextExponential() {
+        return ExponentialRNG.FAST_RNG.generate(this, 1.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FastRandomGenerator(%s)", generator);
+    }
+}
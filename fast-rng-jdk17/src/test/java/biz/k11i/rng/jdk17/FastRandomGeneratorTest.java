@@ -0,0 +1,65 @@
+package biz.k11i.rng.jdk17;
+
+import biz.k11i.rng.ExponentialRNG;
+import biz.k11i.rng.GaussianRNG;
+import biz.k11i.rng.UniformSource;
+import org.junit.jupiter.api.Test;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FastRandomGeneratorTest {
+    private static final RandomGeneratorFactory<RandomGenerator> FACTORY = RandomGeneratorFactory.of("L64X128MixRandom");
+
+    @Test
+    void testUniform() {
+        RandomGenerator expected = FACTORY.create(12345);
+        FastRandomGenerator generator = FastRandomGenerator.of(FACTORY.create(12345));
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(generator.nextLong()).isEqualTo(expected.nextLong());
+            assertThat(generator.nextDouble()).isEqualTo(expected.nextDouble());
+        }
+    }
+
+    @Test
+    void testNextGaussian() {
+        UniformSource source = FACTORY.create(12345)::nextLong;
+        FastRandomGenerator generator = FastRandomGenerator.of(FACTORY.create(12345));
+
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(generator.nextGaussian()).isEqualTo(GaussianRNG.FAST_RNG.generate(source));
+        }
+    }
+
+    @Test
+    void testNextExponential() {
+        UniformSource source = FACTORY.create(12345)::nextLong;
+        FastRandomGenerator generator = FastRandomGenerator.of(FACTORY.create(12345));
+
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(generator.nextExponential()).isEqualTo(ExponentialRNG.FAST_RNG.generate(source, 1.0));
+        }
+    }
+
+    @Test
+    void testNextIntWithBound() {
+        FastRandomGenerator generator = FastRandomGenerator.of("L64X128MixRandom");
+
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(generator.nextInt(997)).isBetween(0, 996);
+        }
+
+        assertThatThrownBy(() -> generator.nextInt(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testOf() {
+        FastRandomGenerator generator = FastRandomGenerator.of("L64X128MixRandom");
+        assertThat(FastRandomGenerator.of(generator)).isSameAs(generator);
+    }
+}
@@ -0,0 +1,21 @@
+package biz.k11i.rng;
+
+final class ArrayRanges {
+    private ArrayRanges() {
+    }
+
+    /**
+     * Checks if the sub-range {@code [off, off + len)} is within the bounds of the range {@code [0, length)}.
+     *
+     * @param off    index of the first element of the sub-range
+     * @param len    number of elements of the sub-range
+     * @param length upper bound (exclusive) of the range
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    static void checkFromIndexSize(int off, int len, int length) {
+        if ((length | off | len) < 0 || len > length - off) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Range [%d, %d + %d) out of bounds for length %d", off, off, len, length));
+        }
+    }
+}
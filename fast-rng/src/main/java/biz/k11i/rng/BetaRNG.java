@@ -1,6 +1,9 @@
 package biz.k11i.rng;
 
+import java.util.Arrays;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.DoubleStream;
 
 import static biz.k11i.util.MathFunctions.exp;
 import static biz.k11i.util.MathFunctions.log;
@@ -23,6 +26,101 @@ public interface BetaRNG {
      */
     double generate(Random random, double alpha, double beta);
 
+    /**
+     * Generates a random value sampled from beta distribution.
+     * <p>
+     * The default implementation adapts {@code source} to {@link Random};
+     * the implementations of this library override it and draw random values from {@code source} directly.
+     * </p>
+     *
+     * @param source source of uniform random numbers
+     * @param alpha  shape parameter (alpha)
+     * @param beta   shape parameter (beta)
+     * @return a random value
+     */
+    default double generate(UniformSource source, double alpha, double beta) {
+        return generate(UniformSources.asRandom(source), alpha, beta);
+    }
+
+    /**
+     * Generates a random value sampled from beta distribution.
+     * <p>
+     * The result is the same as that of {@link #generate(UniformSource, double, double)}
+     * with {@link UniformSource#of(SplittableRandom)}.
+     * </p>
+     *
+     * @param random random number generator ({@link SplittableRandom} object)
+     * @param alpha  shape parameter (alpha)
+     * @param beta   shape parameter (beta)
+     * @return a random value
+     */
+    default double generate(SplittableRandom random, double alpha, double beta) {
+        return generate(UniformSource.of(random), alpha, beta);
+    }
+
+    /**
+     * Generates random values sampled from beta distributions with different parameters.
+     * <p>
+     * {@code out[i]} is sampled from the beta distribution with parameters {@code alphas[i]} and {@code betas[i]}.
+     * The values are not necessarily generated in the order of the index,
+     * so the result may differ from that of calling {@link #generate(Random, double, double)} for each index.
+     * </p>
+     *
+     * @param random random number generator
+     * @param alphas shape parameters (alpha)
+     * @param betas  shape parameters (beta)
+     * @param out    array to store the random values
+     */
+    default void generate(Random random, double[] alphas, double[] betas, double[] out) {
+        if (betas.length != alphas.length || out.length != alphas.length) {
+            throw new IllegalArgumentException("alphas, betas and out must have the same length");
+        }
+
+        for (int i = 0; i < alphas.length; i++) {
+            out[i] = generate(random, alphas[i], betas[i]);
+        }
+    }
+
+    /**
+     * Returns a beta random number generator whose parameters are fixed.
+     * <p>
+     * It is faster than {@link #generate(Random, double, double)} when many values are sampled
+     * with the same parameters.
+     * </p>
+     *
+     * @param alpha shape parameter (alpha)
+     * @param beta  shape parameter (beta)
+     * @return a random number generator
+     */
+    default BetaSampler sampler(double alpha, double beta) {
+        return new BetaRNGAlgorithms.FixedParameters(this, alpha, beta) {
+            @Override
+            public double generate(Random random) {
+                return owner.generate(random, alpha, beta);
+            }
+        };
+    }
+
+    /**
+     * Returns a sequential stream of random values sampled from beta distribution.
+     * <p>
+     * The stream reports {@link java.util.Spliterator#SIZED} and {@link java.util.Spliterator#SUBSIZED},
+     * so that it can be processed in parallel efficiently.
+     * The values are the same regardless of whether the stream is sequential or parallel:
+     * they are generated in blocks of {@link ParallelFill#BLOCK_SIZE} elements, and the block {@code b} uses
+     * {@code new SplitMix64(seed, b)} as the uniform random number generator.
+     * </p>
+     *
+     * @param seed  the seed
+     * @param size  the number of the values
+     * @param alpha shape parameter (alpha)
+     * @param beta  shape parameter (beta)
+     * @return a stream of random values
+     */
+    default DoubleStream stream(long seed, long size, double alpha, double beta) {
+        return RandomSpliterator.stream(seed, size, sampler(alpha, beta)::generate);
+    }
+
     class BetaRNGImpl implements BetaRNG {
         private static final double[] CASE2_MAX_THRESHOLDS;
 
@@ -41,7 +139,7 @@ public interface BetaRNG {
             CASE2_MAX_THRESHOLDS[10 /* 0.10 */] = 1.0;
         }
 
-        private final BetaRNG twoGammaVariates;
+        private final BetaRNGAlgorithms.Algorithm twoGammaVariates;
 
         BetaRNGImpl(GammaRNG gammaRNG) {
             this.twoGammaVariates = new BetaRNGAlgorithms.TwoGammaVariates(gammaRNG);
@@ -49,11 +147,71 @@ public interface BetaRNG {
 
         @Override
         public double generate(Random random, double alpha, double beta) {
+            return generate(UniformSources.of(random), alpha, beta);
+        }
+
+        @Override
+        public double generate(UniformSource source, double alpha, double beta) {
+            return (alpha <= beta ? selectAlgorithm(alpha, beta) : selectAlgorithm(beta, alpha))
+                    .generate(source, alpha, beta);
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double alpha, double beta) {
             return (alpha <= beta ? selectAlgorithm(alpha, beta) : selectAlgorithm(beta, alpha))
                     .generate(random, alpha, beta);
         }
 
-        BetaRNG selectAlgorithm(double min, double max) {
+        /**
+         * Groups the indices by the algorithm to be selected and generates random values group by group,
+         * so that the branches are predictable and the call sites in each loop are monomorphic.
+         */
+        @Override
+        public void generate(Random random, double[] alphas, double[] betas, double[] out) {
+            if (betas.length != alphas.length || out.length != alphas.length) {
+                throw new IllegalArgumentException("alphas, betas and out must have the same length");
+            }
+
+            int n = alphas.length;
+            BetaRNGAlgorithms.Algorithm[] algorithms = new BetaRNGAlgorithms.Algorithm[BetaRNGAlgorithms.NUM_GROUPS];
+            int[] groupStarts = new int[BetaRNGAlgorithms.NUM_GROUPS + 1];
+            byte[] groups = new byte[n];
+
+            for (int i = 0; i < n; i++) {
+                double alpha = alphas[i];
+                double beta = betas[i];
+                BetaRNGAlgorithms.Algorithm algorithm = alpha <= beta ? selectAlgorithm(alpha, beta) : selectAlgorithm(beta, alpha);
+
+                algorithms[algorithm.group] = algorithm;
+                groups[i] = (byte) algorithm.group;
+                groupStarts[algorithm.group + 1]++;
+            }
+
+            for (int g = 0; g < BetaRNGAlgorithms.NUM_GROUPS; g++) {
+                groupStarts[g + 1] += groupStarts[g];
+            }
+
+            int[] positions = Arrays.copyOf(groupStarts, BetaRNGAlgorithms.NUM_GROUPS);
+            int[] indices = new int[n];
+            for (int i = 0; i < n; i++) {
+                indices[positions[groups[i]]++] = i;
+            }
+
+            UniformSource source = UniformSources.of(random);
+            for (int g = 0; g < BetaRNGAlgorithms.NUM_GROUPS; g++) {
+                if (algorithms[g] != null) {
+                    algorithms[g].generate(source, alphas, betas, out, indices, groupStarts[g], groupStarts[g + 1]);
+                }
+            }
+        }
+
+        @Override
+        public BetaSampler sampler(double alpha, double beta) {
+            return (alpha <= beta ? selectAlgorithm(alpha, beta) : selectAlgorithm(beta, alpha))
+                    .sampler(this, alpha, beta);
+        }
+
+        BetaRNGAlgorithms.Algorithm selectAlgorithm(double min, double max) {
             if (min > 1.0) { // case 3: max >= min > 1
                 return twoGammaVariates;
             }
@@ -88,6 +246,61 @@ public interface BetaRNG {
 }
 
 class BetaRNGAlgorithms {
+    static final int NUM_GROUPS = 5;
+
+    abstract static class Algorithm implements BetaRNG {
+        /** Group of the indices that are generated by this algorithm in the batch generation */
+        final int group;
+
+        Algorithm(int group) {
+            this.group = group;
+        }
+
+        /**
+         * Generates random values for {@code out[indices[from]]}, ..., {@code out[indices[to - 1]]}.
+         */
+        abstract void generate(UniformSource source, double[] alphas, double[] betas, double[] out, int[] indices, int from, int to);
+
+        @Override
+        public double generate(Random random, double alpha, double beta) {
+            return generate(UniformSources.of(random), alpha, beta);
+        }
+
+        @Override
+        public abstract double generate(UniformSource source, double alpha, double beta);
+
+        /**
+         * Returns a random number generator whose parameters are fixed.
+         *
+         * @param owner {@link BetaRNG} object that selected this algorithm
+         * @param alpha shape parameter (alpha)
+         * @param beta  shape parameter (beta)
+         * @return a random number generator
+         */
+        abstract BetaSampler sampler(BetaRNG owner, double alpha, double beta);
+
+        @Override
+        public BetaSampler sampler(double alpha, double beta) {
+            return sampler(this, alpha, beta);
+        }
+    }
+
+    abstract static class FixedParameters implements BetaSampler {
+        final BetaRNG owner;
+        final double alpha;
+        final double beta;
+
+        FixedParameters(BetaRNG owner, double alpha, double beta) {
+            this.owner = owner;
+            this.alpha = alpha;
+            this.beta = beta;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s(alpha = %f, beta = %f)", owner, alpha, beta);
+        }
+    }
     /**
      * Implementation of Beta random number generator using Jöhnk's algorithm.
      * <p>
@@ -96,11 +309,57 @@ class BetaRNGAlgorithms {
      * Metrika 8.1 (1964): 5-15.
      * </p>
      */
-    static class Johnk implements BetaRNG {
-        static final BetaRNG INSTANCE = new Johnk();
+    static class Johnk extends Algorithm {
+        static final Johnk INSTANCE = new Johnk();
+
+        private Johnk() {
+            super(0);
+        }
 
         @Override
-        public double generate(Random random, double alpha, double beta) {
+        void generate(UniformSource source, double[] alphas, double[] betas, double[] out, int[] indices, int from, int to) {
+            for (int k = from; k < to; k++) {
+                int i = indices[k];
+                out[i] = generate(source, alphas[i], betas[i]);
+            }
+        }
+
+        @Override
+        BetaSampler sampler(BetaRNG owner, double alpha, double beta) {
+            return new FixedParameters(owner, alpha, beta) {
+                @Override
+                public double generate(Random random) {
+                    return Johnk.this.generate(UniformSources.of(random), alpha, beta);
+                }
+            };
+        }
+
+        @Override
+        public double generate(UniformSource source, double alpha, double beta) {
+            while (true) {
+                double u = log(source.nextDouble()) / alpha;
+                double v = log(source.nextDouble()) / beta;
+
+                double uu = exp(u);
+                double vv = exp(v);
+
+                double w = uu + vv;
+                if (w <= 1) {
+                    if (w > 0) {
+                        return uu / w;
+                    }
+
+                    double logM = u > v ? u : v;
+                    u -= logM;
+                    v -= logM;
+
+                    return exp(u - log(exp(u) + exp(v)));
+                }
+            }
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double alpha, double beta) {
             while (true) {
                 double u = log(random.nextDouble()) / alpha;
                 double v = log(random.nextDouble()) / beta;
@@ -132,11 +391,67 @@ class BetaRNGAlgorithms {
      * Annals of the Institute of Statistical Mathematics 35.1 (1983): 291-302.
      * </p>
      */
-    static class B00 implements BetaRNG {
-        static final BetaRNG INSTANCE = new B00();
+    static class B00 extends Algorithm {
+        static final B00 INSTANCE = new B00();
+
+        private B00() {
+            super(1);
+        }
+
+        /**
+         * Holds the constants of B00 algorithm that depend only on the parameters for {@link BetaSampler}.
+         */
+        static class Constants {
+            final double t;
+            final double p;
+            final double q;
+            final double s;
+            final double c;
+            final double r;
+
+            Constants(double alpha, double beta) {
+                double t = (1 - alpha) / (2 - alpha - beta);
+                double s = (beta - alpha) * (1 - alpha - beta);
+                double r = alpha * (1 - alpha);
+                t -= ((s * t + 2 * r) * t - r) / 2 * (s * t + r);
+                this.t = t;
+                this.p = t / alpha;
+                this.q = (1 - t) / beta;
+                this.s = pow((1 - t), beta - 1);
+                this.c = pow(t, alpha - 1);
+                this.r = (c - 1) / (t - 1);
+            }
+        }
 
         @Override
-        public double generate(Random random, double alpha, double beta) {
+        BetaSampler sampler(BetaRNG owner, double alpha, double beta) {
+            Constants k = new Constants(alpha, beta);
+
+            return new FixedParameters(owner, alpha, beta) {
+                @Override
+                public double generate(Random random) {
+                    return B00.generate(UniformSources.of(random), alpha, beta, k.t, k.p, k.q, k.s, k.c, k.r);
+                }
+            };
+        }
+
+        @Override
+        public double generate(UniformSource source, double alpha, double beta) {
+            double t = (1 - alpha) / (2 - alpha - beta);
+            double s = (beta - alpha) * (1 - alpha - beta);
+            double r = alpha * (1 - alpha);
+            t -= ((s * t + 2 * r) * t - r) / 2 * (s * t + r);
+            double p = t / alpha;
+            double q = (1 - t) / beta;
+            s = pow((1 - t), beta - 1);
+            double c = pow(t, alpha - 1);
+            r = (c - 1) / (t - 1);
+
+            return generate(source, alpha, beta, t, p, q, s, c, r);
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double alpha, double beta) {
             double t = (1 - alpha) / (2 - alpha - beta);
             double s = (beta - alpha) * (1 - alpha - beta);
             double r = alpha * (1 - alpha);
@@ -147,6 +462,81 @@ class BetaRNGAlgorithms {
             double c = pow(t, alpha - 1);
             r = (c - 1) / (t - 1);
 
+            return generate(random, alpha, beta, t, p, q, s, c, r);
+        }
+
+        /**
+         * Recomputes the constants only when the parameters differ from those of the previous index,
+         * so that a run of equal parameters shares them.
+         */
+        @Override
+        void generate(UniformSource source, double[] alphas, double[] betas, double[] out, int[] indices, int from, int to) {
+            double alpha = Double.NaN;
+            double beta = Double.NaN;
+            double t = 0, p = 0, q = 0, s = 0, c = 0, r = 0;
+
+            for (int j = from; j < to; j++) {
+                int i = indices[j];
+
+                if (alphas[i] != alpha || betas[i] != beta) {
+                    alpha = alphas[i];
+                    beta = betas[i];
+
+                    t = (1 - alpha) / (2 - alpha - beta);
+                    s = (beta - alpha) * (1 - alpha - beta);
+                    r = alpha * (1 - alpha);
+                    t -= ((s * t + 2 * r) * t - r) / 2 * (s * t + r);
+                    p = t / alpha;
+                    q = (1 - t) / beta;
+                    s = pow((1 - t), beta - 1);
+                    c = pow(t, alpha - 1);
+                    r = (c - 1) / (t - 1);
+                }
+
+                out[i] = generate(source, alpha, beta, t, p, q, s, c, r);
+            }
+        }
+
+        static double generate(UniformSource source, double alpha, double beta,
+                               double t, double p, double q, double s, double c, double r) {
+            while (true) {
+                // step 1
+                double u = source.nextDouble() * (p + q);
+                double v = source.nextDouble();
+
+                if (u <= p) {
+                    // step 2
+                    double x = t * pow(u / p, 1 / alpha);
+                    v *= s;
+
+                    if (v < (1 - beta) * x + 1) {
+                        return x;
+                    }
+                    if (v < (s - 1) * x / t + 1 && v <= pow(1 - x, beta - 1)) {
+                        return x;
+                    }
+
+                } else {
+                    // step 3
+                    double x = 1 - (1 - t) * pow((u - p) / q, 1 / beta);
+                    v *= c;
+
+                    if (v < (alpha - 1) * (x - 1) + 1) {
+                        return x;
+                    }
+                    if (v <= r * (x - 1) + 1 && v <= pow(x, alpha - 1)) {
+                        return x;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Same as {@link #generate(UniformSource, double, double, double, double, double, double, double, double)}
+         * but draws the random values from {@link SplittableRandom} object directly.
+         */
+        static double generate(SplittableRandom random, double alpha, double beta,
+                               double t, double p, double q, double s, double c, double r) {
             while (true) {
                 // step 1
                 double u = random.nextDouble() * (p + q);
@@ -183,15 +573,52 @@ class BetaRNGAlgorithms {
     /**
      * Generates Beta variates using two Gamma variates.
      */
-    static class TwoGammaVariates implements BetaRNG {
+    static class TwoGammaVariates extends Algorithm {
         private final GammaRNG gammaRNG;
 
         TwoGammaVariates(GammaRNG gammaRNG) {
+            super(2);
             this.gammaRNG = gammaRNG;
         }
 
         @Override
-        public double generate(Random random, double alpha, double beta) {
+        void generate(UniformSource source, double[] alphas, double[] betas, double[] out, int[] indices, int from, int to) {
+            for (int k = from; k < to; k++) {
+                int i = indices[k];
+                out[i] = generate(source, alphas[i], betas[i]);
+            }
+        }
+
+        @Override
+        BetaSampler sampler(BetaRNG owner, double alpha, double beta) {
+            GammaSampler alphaSampler = gammaRNG.sampler(alpha, 1);
+            GammaSampler betaSampler = gammaRNG.sampler(beta, 1);
+
+            return new FixedParameters(owner, alpha, beta) {
+                @Override
+                public double generate(Random random) {
+                    double a = alphaSampler.generate(random);
+                    if (a == 0.0) {
+                        return 0.0;
+                    }
+
+                    return a / (a + betaSampler.generate(random));
+                }
+            };
+        }
+
+        @Override
+        public double generate(UniformSource source, double alpha, double beta) {
+            double a = gammaRNG.generate(source, alpha, 1);
+            if (a == 0.0) {
+                return 0.0;
+            }
+
+            return a / (a + gammaRNG.generate(source, beta, 1));
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double alpha, double beta) {
             double a = gammaRNG.generate(random, alpha, 1);
             if (a == 0.0) {
                 return 0.0;
@@ -204,22 +631,90 @@ class BetaRNGAlgorithms {
     /**
      * Generates Beta variates using inversion method.
      */
-    static class CdfInversion implements BetaRNG {
-        static final BetaRNG INSTANCE = new CdfInversion();
+    static class CdfInversion extends Algorithm {
+        static final CdfInversion INSTANCE = new CdfInversion();
+
+        private CdfInversion() {
+            super(3);
+        }
 
         @Override
-        public double generate(Random random, double alpha, double beta) {
+        void generate(UniformSource source, double[] alphas, double[] betas, double[] out, int[] indices, int from, int to) {
+            for (int k = from; k < to; k++) {
+                int i = indices[k];
+                out[i] = generate(source, alphas[i], betas[i]);
+            }
+        }
+
+        @Override
+        BetaSampler sampler(BetaRNG owner, double alpha, double beta) {
+            if (alpha == 1.0) {
+                double exponent = 1.0 / beta;
+
+                return new FixedParameters(owner, alpha, beta) {
+                    @Override
+                    public double generate(Random random) {
+                        return 1 - pow(random.nextDouble(), exponent);
+                    }
+                };
+            }
+
+            double exponent = 1.0 / alpha;
+
+            return new FixedParameters(owner, alpha, beta) {
+                @Override
+                public double generate(Random random) {
+                    return pow(random.nextDouble(), exponent);
+                }
+            };
+        }
+
+        @Override
+        public double generate(UniformSource source, double alpha, double beta) {
+            return alpha == 1.0
+                    ? 1 - pow(source.nextDouble(), 1.0 / beta)
+                    : pow(source.nextDouble(), 1.0 / alpha);
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double alpha, double beta) {
             return alpha == 1.0
                     ? 1 - pow(random.nextDouble(), 1.0 / beta)
                     : pow(random.nextDouble(), 1.0 / alpha);
         }
     }
 
-    static class Unif implements BetaRNG {
-        static final BetaRNG INSTANCE = new Unif();
+    static class Unif extends Algorithm {
+        static final Unif INSTANCE = new Unif();
+
+        private Unif() {
+            super(4);
+        }
+
+        @Override
+        void generate(UniformSource source, double[] alphas, double[] betas, double[] out, int[] indices, int from, int to) {
+            for (int k = from; k < to; k++) {
+                out[indices[k]] = source.nextDouble();
+            }
+        }
+
+        @Override
+        BetaSampler sampler(BetaRNG owner, double alpha, double beta) {
+            return new FixedParameters(owner, alpha, beta) {
+                @Override
+                public double generate(Random random) {
+                    return random.nextDouble();
+                }
+            };
+        }
+
+        @Override
+        public double generate(UniformSource source, double ignore1, double ignore2) {
+            return source.nextDouble();
+        }
 
         @Override
-        public double generate(Random random, double ignore1, double ignore2) {
+        public double generate(SplittableRandom random, double ignore1, double ignore2) {
             return random.nextDouble();
         }
     }
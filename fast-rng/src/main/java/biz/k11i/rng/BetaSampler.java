@@ -0,0 +1,24 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+
+/**
+ * Beta random number generator whose parameters are fixed.
+ * <p>
+ * Objects of this interface are immutable; algorithm selection and the constants that depend only on
+ * the parameters are resolved when they are created by {@link BetaRNG#sampler(double, double)}.
+ * </p>
+ * <p>
+ * To change the parameters, e.g. to update the posterior distribution of Thompson sampling,
+ * create another object by {@link BetaRNG#sampler(double, double)} of the same {@link BetaRNG}.
+ * </p>
+ */
+public interface BetaSampler {
+    /**
+     * Generates a random value sampled from beta distribution.
+     *
+     * @param random random number generator
+     * @return a random value
+     */
+    double generate(Random random);
+}
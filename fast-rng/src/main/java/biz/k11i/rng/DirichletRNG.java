@@ -0,0 +1,196 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+
+import static biz.k11i.util.MathFunctions.exp;
+import static biz.k11i.util.MathFunctions.log;
+import static java.lang.Math.sqrt;
+
+/**
+ * Dirichlet random number generator.
+ * <p>
+ * The random vector is {@code (g_1, ..., g_K) / (g_1 + ... + g_K)} with {@code g_i ~ Gamma(alpha_i, 1)},
+ * where the gamma random values are generated using Marsaglia and Tsang's algorithm.
+ * </p>
+ * <p>
+ * For {@code alpha_i < 1}, {@code g_i = g' * u^{1 / alpha_i}} with {@code g' ~ Gamma(alpha_i + 1, 1)}
+ * and {@code u ~ U(0, 1)}.
+ * {@code u^{1 / alpha_i}} underflows to 0 for small {@code alpha_i}, which may make all the components 0
+ * and the normalization {@code 0 / 0}.
+ * Such components are kept in log-space,
+ * and then all the components are divided by the largest one in log-space before the normalization,
+ * so that the sum never underflows.
+ * </p>
+ */
+public interface DirichletRNG {
+    DirichletRNG FAST_RNG = new DirichletRNGImpl(GaussianRNG.FAST_RNG);
+    DirichletRNG GENERAL_RNG = new DirichletRNGImpl(GaussianRNG.GENERAL_RNG);
+
+    /**
+     * Generates a random vector sampled from Dirichlet distribution.
+     *
+     * @param random random number generator
+     * @param alpha  concentration parameters, which must be positive
+     * @param out    array to store the random vector
+     */
+    void generate(Random random, double[] alpha, double[] out);
+
+    /**
+     * Returns a Dirichlet random number generator whose parameters are fixed.
+     * <p>
+     * It is faster than {@link #generate(Random, double[], double[])} when many vectors are sampled
+     * with the same parameters.
+     * The array is not referenced after this method returns.
+     * </p>
+     *
+     * @param alpha concentration parameters, which must be positive
+     * @return a random number generator
+     */
+    DirichletSampler sampler(double[] alpha);
+
+    class DirichletRNGImpl implements DirichletRNG {
+        private static final double ONE_THIRD = 1.0 / 3;
+
+        /**
+         * Lower bound of {@code log(u) / alpha} to compute {@code g' * u^{1 / alpha}} in the linear space,
+         * which keeps the value far from the subnormal range.
+         */
+        private static final double MIN_LINEAR_LOG = -600;
+
+        private final GaussianRNG gaussianRNG;
+
+        DirichletRNGImpl(GaussianRNG gaussianRNG) {
+            this.gaussianRNG = gaussianRNG;
+        }
+
+        @Override
+        public void generate(Random random, double[] alpha, double[] out) {
+            if (out.length != alpha.length) {
+                throw new IllegalArgumentException("alpha and out must have the same length");
+            }
+
+            final UniformSource source = UniformSources.of(random);
+            final GaussianRNG gaussianRNG = this.gaussianRNG;
+            boolean logSpace = false;
+
+            for (int i = 0; i < alpha.length; i++) {
+                double a = alpha[i];
+                if (a >= 1) {
+                    double d = a - ONE_THIRD;
+                    out[i] = MarsagliaTsangGamma.generate(gaussianRNG, source, d, 1 / sqrt(9 * d));
+
+                } else {
+                    double d = a + 1 - ONE_THIRD;
+                    double g = MarsagliaTsangGamma.generate(gaussianRNG, source, d, 1 / sqrt(9 * d));
+                    double x = boost(g, source.nextDouble(), 1 / a);
+                    out[i] = x;
+                    logSpace |= x < 0;
+                }
+            }
+
+            normalize(out, logSpace);
+        }
+
+        @Override
+        public DirichletSampler sampler(double[] alpha) {
+            final GaussianRNG gaussianRNG = this.gaussianRNG;
+            final int k = alpha.length;
+            final double[] d = new double[k];
+            final double[] c = new double[k];
+            // 1 / alpha_i for the components of alpha_i < 1, or 0 for the others
+            final double[] invAlpha = new double[k];
+
+            for (int i = 0; i < k; i++) {
+                double a = alpha[i];
+                if (a >= 1) {
+                    d[i] = a - ONE_THIRD;
+                } else {
+                    d[i] = a + 1 - ONE_THIRD;
+                    invAlpha[i] = 1 / a;
+                }
+                c[i] = 1 / sqrt(9 * d[i]);
+            }
+
+            return new DirichletSampler() {
+                @Override
+                public void generate(Random random, double[] out) {
+                    if (out.length != k) {
+                        throw new IllegalArgumentException("out must have " + k + " elements");
+                    }
+
+                    UniformSource source = UniformSources.of(random);
+                    boolean logSpace = false;
+                    for (int i = 0; i < k; i++) {
+                        double g = MarsagliaTsangGamma.generate(gaussianRNG, source, d[i], c[i]);
+                        if (invAlpha[i] == 0) {
+                            out[i] = g;
+
+                        } else {
+                            double x = boost(g, source.nextDouble(), invAlpha[i]);
+                            out[i] = x;
+                            logSpace |= x < 0;
+                        }
+                    }
+
+                    normalize(out, logSpace);
+                }
+
+                @Override
+                public String toString() {
+                    return String.format("DirichletSampler[%s](K = %d)", gaussianRNG.getClass().getSimpleName(), k);
+                }
+            };
+        }
+
+        /**
+         * Computes {@code g * u^{1 / alpha}} for {@code alpha < 1}.
+         *
+         * @return the value itself if it is in the normal range, or its logarithm otherwise, which is negative
+         */
+        private static double boost(double g, double u, double invAlpha) {
+            double t = log(u) * invAlpha;
+            if (t >= MIN_LINEAR_LOG) {
+                return g * exp(t);
+            }
+            return log(g) + t;
+        }
+
+        /**
+         * Normalizes the components so that their sum is 1.
+         * When {@code logSpace} is true, the negative components are logarithms,
+         * and all the components are divided by the largest one before they are summed.
+         */
+        private static void normalize(double[] out, boolean logSpace) {
+            if (logSpace) {
+                double m = Double.NEGATIVE_INFINITY;
+                for (int i = 0; i < out.length; i++) {
+                    double x = out[i];
+                    if (x >= 0) {
+                        x = log(x);
+                        out[i] = x;
+                    }
+                    m = Math.max(m, x);
+                }
+
+                for (int i = 0; i < out.length; i++) {
+                    out[i] = exp(out[i] - m);
+                }
+            }
+
+            double sum = 0;
+            for (double x : out) {
+                sum += x;
+            }
+
+            double factor = 1 / sum;
+            for (int i = 0; i < out.length; i++) {
+                out[i] *= factor;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("DirichletRNGImpl[%s]", gaussianRNG.getClass().getSimpleName());
+        }
+    }
+}
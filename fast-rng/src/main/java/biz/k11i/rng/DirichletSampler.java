@@ -0,0 +1,21 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+
+/**
+ * Dirichlet random number generator whose parameters are fixed.
+ * <p>
+ * Objects of this interface are immutable; the constants that depend only on the parameters are resolved
+ * when they are created by {@link DirichletRNG#sampler(double[])}.
+ * </p>
+ */
+@FunctionalInterface
+public interface DirichletSampler {
+    /**
+     * Generates a random vector sampled from Dirichlet distribution.
+     *
+     * @param random random number generator
+     * @param out    array to store the random vector, whose length must be the number of the parameters
+     */
+    void generate(Random random, double[] out);
+}
@@ -1,6 +1,10 @@
 package biz.k11i.rng;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.DoubleStream;
 
 import static biz.k11i.util.MathFunctions.exp;
 import static biz.k11i.util.MathFunctions.log;
@@ -12,6 +16,7 @@ import static biz.k11i.util.MathFunctions.log1p;
 public interface ExponentialRNG {
     ExponentialRNG FAST_RNG = ZigguratFast.Z_256;
     ExponentialRNG GENERAL_RNG = ZigguratGeneral.Z_256;
+    ExponentialRNG MODIFIED_ZIGGURAT = ModifiedZiggurat.Z_256;
 
     /**
      * Generates a random value sampled from exponential distribution.
@@ -22,6 +27,153 @@ public interface ExponentialRNG {
      */
     double generate(Random random, double theta);
 
+    /**
+     * Generates a random value sampled from exponential distribution.
+     * <p>
+     * The default implementation adapts {@code source} to {@link Random};
+     * the implementations of this library override it and draw random values from {@code source} directly.
+     * </p>
+     *
+     * @param source source of uniform random numbers
+     * @param theta  mean of the distribution
+     * @return a random value
+     */
+    default double generate(UniformSource source, double theta) {
+        return generate(UniformSources.asRandom(source), theta);
+    }
+
+    /**
+     * Generates a random value sampled from exponential distribution.
+     * <p>
+     * The result is the same as that of {@link #generate(UniformSource, double)}
+     * with {@link UniformSource#of(SplittableRandom)}.
+     * </p>
+     *
+     * @param random random number generator ({@link SplittableRandom} object)
+     * @param theta  mean of the distribution
+     * @return a random value
+     */
+    default double generate(SplittableRandom random, double theta) {
+        return generate(UniformSource.of(random), theta);
+    }
+
+    /**
+     * Fills the specified range of the array with random values sampled from exponential distribution.
+     *
+     * @param random random number generator
+     * @param dst    array to be filled
+     * @param off    index of the first element to be filled
+     * @param len    number of elements to be filled
+     * @param theta  mean of the distribution
+     */
+    default void fill(Random random, double[] dst, int off, int len, double theta) {
+        ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+        for (int j = off, end = off + len; j < end; j++) {
+            dst[j] = generate(random, theta);
+        }
+    }
+
+    /**
+     * Fills the remaining elements of the buffer with random values sampled from exponential distribution.
+     * <p>
+     * The position of the buffer is advanced to its limit.
+     * </p>
+     *
+     * @param random random number generator
+     * @param dst    buffer to be filled
+     * @param theta  mean of the distribution
+     */
+    default void fill(Random random, DoubleBuffer dst, double theta) {
+        if (dst.hasArray()) {
+            fill(random, dst.array(), dst.arrayOffset() + dst.position(), dst.remaining(), theta);
+        } else {
+            for (int j = dst.position(), end = dst.limit(); j < end; j++) {
+                dst.put(j, generate(random, theta));
+            }
+        }
+        dst.position(dst.limit());
+    }
+
+    /**
+     * Fills the remaining bytes of the buffer with random values sampled from exponential distribution
+     * in the byte order of the buffer.
+     * <p>
+     * The position of the buffer is advanced by 8 bytes for each value.
+     * The last {@code remaining() % 8} bytes are left untouched.
+     * </p>
+     *
+     * @param random random number generator
+     * @param dst    buffer to be filled
+     * @param theta  mean of the distribution
+     */
+    default void fill(Random random, ByteBuffer dst, double theta) {
+        DoubleBuffer buffer = dst.asDoubleBuffer();
+        fill(random, buffer, theta);
+        dst.position(dst.position() + buffer.position() * Double.BYTES);
+    }
+
+    /**
+     * Returns a sequential stream of random values sampled from exponential distribution.
+     * <p>
+     * The stream reports {@link java.util.Spliterator#SIZED} and {@link java.util.Spliterator#SUBSIZED},
+     * so that it can be processed in parallel efficiently.
+     * The values are the same regardless of whether the stream is sequential or parallel:
+     * they are generated in blocks of {@link ParallelFill#BLOCK_SIZE} elements, and the block {@code b} uses
+     * {@code new SplitMix64(seed, b)} as the uniform random number generator.
+     * </p>
+     *
+     * @param seed  the seed
+     * @param size  the number of the values
+     * @param theta mean of the distribution
+     * @return a stream of random values
+     */
+    default DoubleStream stream(long seed, long size, double theta) {
+        return RandomSpliterator.stream(seed, size, random -> generate(random, theta));
+    }
+
+    /**
+     * Returns exponential random number generator using the same algorithm as {@link #FAST_RNG}
+     * with {@code 2^nBits} rectangles.
+     * <p>
+     * More rectangles make the fast path more likely and the slow path, which evaluates {@code exp}, less frequent,
+     * at the cost of larger tables: the tables occupy about {@code 24 * 2^nBits} bytes.
+     * The returned object is created on each invocation except for {@code nBits = 8}; create it once and reuse it.
+     * </p>
+     *
+     * @param nBits number of rectangles (2^nBits): 7, 8, 9, 10 or 12
+     * @return a random number generator
+     */
+    static ExponentialRNG ziggurat(int nBits) {
+        if (nBits == 8) {
+            return ZigguratFast.Z_256;
+        }
+
+        double[] p = ZigguratBase.parameters(nBits);
+        return new ZigguratFast(nBits, p[0], p[1]);
+    }
+
+    /**
+     * Returns exponential random number generator using the same algorithm as {@link #GENERAL_RNG}
+     * with {@code 2^nBits} rectangles.
+     * <p>
+     * More rectangles make the fast path more likely and the slow path, which evaluates {@code exp}, less frequent,
+     * at the cost of larger tables: the tables occupy about {@code 24 * 2^nBits} bytes.
+     * The returned object is created on each invocation except for {@code nBits = 8}; create it once and reuse it.
+     * </p>
+     *
+     * @param nBits number of rectangles (2^nBits): 7, 8, 9, 10 or 12
+     * @return a random number generator
+     */
+    static ExponentialRNG generalZiggurat(int nBits) {
+        if (nBits == 8) {
+            return ZigguratGeneral.Z_256;
+        }
+
+        double[] p = ZigguratBase.parameters(nBits);
+        return new ZigguratGeneral(nBits, p[0], p[1]);
+    }
+
     abstract class ZigguratBase implements ExponentialRNG {
         final int N;
         final double R;
@@ -38,16 +190,48 @@ public interface ExponentialRNG {
             TAIL_INDEX = (1 << nBits) - 1;
         }
 
+        /**
+         * Returns {@code {r, v}} of the ziggurat with {@code 2^nBits} rectangles.
+         */
+        static double[] parameters(int nBits) {
+            switch (nBits) {
+                case 7:
+                    return new double[]{6.8983151166156418, 0.0079732295395534957};
+                case 8:
+                    return new double[]{7.697117470131, 0.00394965982258};
+                case 9:
+                    return new double[]{8.481739963222731, 0.0019647856504077365};
+                case 10:
+                    return new double[]{9.2561645442655429, 0.00097967899066202149};
+                case 12:
+                    return new double[]{10.783573275961555, 0.00024436029337157698};
+                default:
+                    throw new IllegalArgumentException("nBits must be one of 7, 8, 9, 10 and 12");
+            }
+        }
+
         static double finv(double x, double v) {
             return -log(exp(-x) + v / x);
         }
 
-        @Override
-        public double generate(Random random, double theta) {
-            return theta * generate(random, 0);
+        /**
+         * Shifts the value sampled after falling into the tail {@code numTails} times.
+         */
+        double addTails(double x, int numTails) {
+            for (; numTails > 0; numTails--) {
+                x = R + x;
+            }
+            return x;
         }
 
-        abstract double generate(Random random, int recursionCount);
+        /**
+         * Generates a random value sampled from standard exponential distribution.
+         * <p>
+         * When the value falls into the tail, the algorithm restarts and shifts the next value by {@code R}
+         * until the total number of restarts including {@code recursionCount} reaches 2.
+         * </p>
+         */
+        abstract double generate(UniformSource source, int recursionCount);
     }
 
     /**
@@ -98,30 +282,120 @@ public interface ExponentialRNG {
         }
 
         @Override
-        double generate(Random random, int recursiveCount) {
+        double generate(UniformSource source, int recursiveCount) {
+            int numTails = 0;
+
             while (true) {
-                long u = random.nextLong();
+                long u = source.nextLong();
                 int i = (int) (u & INDEX_BIT_MASK);
                 u >>>= INDEX_BITS;
 
                 if (u < k[i]) {
-                    return u * w[i];
+                    return addTails(u * w[i], numTails);
                 }
 
                 if (i == TAIL_INDEX) {
-                    if (recursiveCount < 2) {
-                        return R + generate(random, recursiveCount + 1);
+                    if (recursiveCount + numTails < 2) {
+                        numTails++;
+                        continue;
                     }
-                    return R - log1p(-random.nextDouble());
+                    return addTails(R - log1p(-source.nextDouble()), numTails);
                 }
 
                 double x = u * w[i];
                 double fx = exp(-x);
-                if (random.nextDouble() * (f[i] - f[i + 1]) <= fx - f[i + 1]) {
-                    return x;
+                if (source.nextDouble() * (f[i] - f[i + 1]) <= fx - f[i + 1]) {
+                    return addTails(x, numTails);
                 }
             }
         }
+
+        @Override
+        public double generate(Random random, double theta) {
+            long u = random.nextLong();
+            int i = (int) (u & INDEX_BIT_MASK);
+            u >>>= INDEX_BITS;
+
+            return theta * (u < k[i] ? u * w[i] : generateSlowPath(UniformSources.of(random), u, i));
+        }
+
+        @Override
+        public double generate(UniformSource source, double theta) {
+            long u = source.nextLong();
+            int i = (int) (u & INDEX_BIT_MASK);
+            u >>>= INDEX_BITS;
+
+            return theta * (u < k[i] ? u * w[i] : generateSlowPath(source, u, i));
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double theta) {
+            long u = random.nextLong();
+            int i = (int) (u & INDEX_BIT_MASK);
+            u >>>= INDEX_BITS;
+
+            return theta * (u < k[i] ? u * w[i] : generateSlowPath(UniformSource.of(random), u, i));
+        }
+
+        @Override
+        public void fill(Random random, double[] dst, int off, int len, double theta) {
+            ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+            final UniformSource source = UniformSources.of(random);
+            final long[] k = this.k;
+            final double[] w = this.w;
+            final int indexBitMask = INDEX_BIT_MASK;
+            final int indexBits = INDEX_BITS;
+
+            for (int j = off, end = off + len; j < end; j++) {
+                long u = random.nextLong();
+                int i = (int) (u & indexBitMask);
+                u >>>= indexBits;
+
+                dst[j] = theta * (u < k[i] ? u * w[i] : generateSlowPath(source, u, i));
+            }
+        }
+
+        @Override
+        public void fill(Random random, DoubleBuffer dst, double theta) {
+            if (dst.hasArray()) {
+                fill(random, dst.array(), dst.arrayOffset() + dst.position(), dst.remaining(), theta);
+                dst.position(dst.limit());
+                return;
+            }
+
+            final UniformSource source = UniformSources.of(random);
+            final long[] k = this.k;
+            final double[] w = this.w;
+            final int indexBitMask = INDEX_BIT_MASK;
+            final int indexBits = INDEX_BITS;
+
+            for (int j = dst.position(), end = dst.limit(); j < end; j++) {
+                long u = random.nextLong();
+                int i = (int) (u & indexBitMask);
+                u >>>= indexBits;
+
+                dst.put(j, theta * (u < k[i] ? u * w[i] : generateSlowPath(source, u, i)));
+            }
+            dst.position(dst.limit());
+        }
+
+        /**
+         * Continues {@link #generate(UniformSource, int)} after the value drawn from the rectangle {@code i} was rejected.
+         */
+        private double generateSlowPath(UniformSource source, long u, int i) {
+            if (i == TAIL_INDEX) {
+                return R + generate(source, 1);
+            }
+
+            double x = u * w[i];
+            double fx = exp(-x);
+            if (source.nextDouble() * (f[i] - f[i + 1]) <= fx - f[i + 1]) {
+                return x;
+            }
+
+            return generate(source, 0);
+        }
     }
 
     /**
@@ -160,29 +434,195 @@ public interface ExponentialRNG {
         }
 
         @Override
-        double generate(Random random, int recursiveCount) {
+        double generate(UniformSource source, int recursiveCount) {
+            int numTails = 0;
+
             while (true) {
-                int i = (int) (random.nextLong() & INDEX_BIT_MASK);
-                double u1 = random.nextDouble();
+                int i = (int) (source.nextLong() & INDEX_BIT_MASK);
+                double u1 = source.nextDouble();
 
                 if (u1 < t[i]) {
-                    return u1 * x[i + 1];
+                    return addTails(u1 * x[i + 1], numTails);
                 }
 
                 if (i == TAIL_INDEX) {
-                    if (recursiveCount < 2) {
-                        return R + generate(random, recursiveCount + 1);
+                    if (recursiveCount + numTails < 2) {
+                        numTails++;
+                        continue;
                     }
-                    return R - log1p(-random.nextDouble());
+                    return addTails(R - log1p(-source.nextDouble()), numTails);
                 }
 
                 double y = u1 * x[i + 1];
                 double gu = exp(-(x[i] - y));
                 double gl = exp(-(x[i + 1] - y));
-                if (random.nextDouble() * (gu - gl) <= 1 - gl) {
-                    return y;
+                if (source.nextDouble() * (gu - gl) <= 1 - gl) {
+                    return addTails(y, numTails);
                 }
             }
         }
+
+        @Override
+        public double generate(Random random, double theta) {
+            int i = (int) (random.nextLong() & INDEX_BIT_MASK);
+            double u1 = random.nextDouble();
+
+            return theta * (u1 < t[i] ? u1 * x[i + 1] : generateSlowPath(UniformSources.of(random), u1, i));
+        }
+
+        @Override
+        public double generate(UniformSource source, double theta) {
+            int i = (int) (source.nextLong() & INDEX_BIT_MASK);
+            double u1 = source.nextDouble();
+
+            return theta * (u1 < t[i] ? u1 * x[i + 1] : generateSlowPath(source, u1, i));
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double theta) {
+            int i = (int) (random.nextLong() & INDEX_BIT_MASK);
+            double u1 = random.nextDouble();
+
+            return theta * (u1 < t[i] ? u1 * x[i + 1] : generateSlowPath(UniformSource.of(random), u1, i));
+        }
+
+        @Override
+        public void fill(Random random, double[] dst, int off, int len, double theta) {
+            ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+            final UniformSource source = UniformSources.of(random);
+            final double[] x = this.x;
+            final double[] t = this.t;
+            final int indexBitMask = INDEX_BIT_MASK;
+
+            for (int j = off, end = off + len; j < end; j++) {
+                int i = (int) (random.nextLong() & indexBitMask);
+                double u1 = random.nextDouble();
+
+                dst[j] = theta * (u1 < t[i] ? u1 * x[i + 1] : generateSlowPath(source, u1, i));
+            }
+        }
+
+        @Override
+        public void fill(Random random, DoubleBuffer dst, double theta) {
+            if (dst.hasArray()) {
+                fill(random, dst.array(), dst.arrayOffset() + dst.position(), dst.remaining(), theta);
+                dst.position(dst.limit());
+                return;
+            }
+
+            final UniformSource source = UniformSources.of(random);
+            final double[] x = this.x;
+            final double[] t = this.t;
+            final int indexBitMask = INDEX_BIT_MASK;
+
+            for (int j = dst.position(), end = dst.limit(); j < end; j++) {
+                int i = (int) (random.nextLong() & indexBitMask);
+                double u1 = random.nextDouble();
+
+                dst.put(j, theta * (u1 < t[i] ? u1 * x[i + 1] : generateSlowPath(source, u1, i)));
+            }
+            dst.position(dst.limit());
+        }
+
+        /**
+         * Continues {@link #generate(UniformSource, int)} after the value drawn from the rectangle {@code i} was rejected.
+         */
+        private double generateSlowPath(UniformSource source, double u1, int i) {
+            if (i == TAIL_INDEX) {
+                return R + generate(source, 1);
+            }
+
+            double y = u1 * x[i + 1];
+            double gu = exp(-(x[i] - y));
+            double gl = exp(-(x[i + 1] - y));
+            if (source.nextDouble() * (gu - gl) <= 1 - gl) {
+                return y;
+            }
+
+            return generate(source, 0);
+        }
+    }
+
+    /**
+     * Implementation of Exponential random number generator using the modified ziggurat algorithm.
+     * <p>
+     * McFarland, Christopher D.
+     * <i>"A modified ziggurat algorithm for generating exponentially and normally distributed pseudorandom numbers."</i>
+     * Journal of statistical computation and simulation 86.7 (2016): 1281-1294.
+     * </p>
+     * <p>
+     * 252 of the 256 columns are rectangles lying under the curve, so that about 98.4% of the values are drawn
+     * from a single {@link Random#nextLong()} without rejection.
+     * The other values are drawn from the overhangs chosen by an alias table or the tail,
+     * and {@code exp} is evaluated only for the points near the curve.
+     * See {@link ModifiedZigguratTables} for the details.
+     * </p>
+     * <p>
+     * This implementation assumes that the values returned from {@link Random#nextLong()}
+     * have the independence of each bit.
+     * </p>
+     */
+    class ModifiedZiggurat implements ExponentialRNG {
+        private static final ModifiedZiggurat Z_256 = new ModifiedZiggurat();
+
+        private static final int U_SHIFT_BITS = ModifiedZigguratTables.INDEX_BITS;
+        private static final int INDEX_BIT_MASK = ModifiedZigguratTables.N - 1;
+
+        private final ModifiedZigguratTables tables;
+        private final int numRectangles;
+        private final double[] w;
+
+        private ModifiedZiggurat() {
+            tables = new ModifiedZigguratTables(x -> exp(-x), 1.0, 0.0, 64 - U_SHIFT_BITS);
+            numRectangles = tables.numRectangles;
+            w = tables.w;
+        }
+
+        @Override
+        public double generate(Random random, double theta) {
+            long u = random.nextLong();
+            int j = (int) u & INDEX_BIT_MASK;
+
+            return theta * (j < numRectangles ? (u >>> U_SHIFT_BITS) * w[j] : generateSlowPath(UniformSources.of(random)));
+        }
+
+        @Override
+        public double generate(UniformSource source, double theta) {
+            long u = source.nextLong();
+            int j = (int) u & INDEX_BIT_MASK;
+
+            return theta * (j < numRectangles ? (u >>> U_SHIFT_BITS) * w[j] : generateSlowPath(source));
+        }
+
+        @Override
+        public void fill(Random random, double[] dst, int off, int len, double theta) {
+            ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+            final UniformSource source = UniformSources.of(random);
+            final double[] w = this.w;
+            final int numRectangles = this.numRectangles;
+
+            for (int j = off, end = off + len; j < end; j++) {
+                long u = random.nextLong();
+                int i = (int) u & INDEX_BIT_MASK;
+
+                dst[j] = theta * (i < numRectangles ? (u >>> U_SHIFT_BITS) * w[i] : generateSlowPath(source));
+            }
+        }
+
+        /**
+         * Draws the value from the overhangs or the tail.
+         */
+        private double generateSlowPath(UniformSource source) {
+            int i = tables.region(source.nextLong());
+            return i == tables.tailIndex ? tables.r - log1p(-source.nextDouble()) : tables.overhang(source, i);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ModifiedZiggurat(N = %d, rectangles = %d, R = %f)",
+                    ModifiedZigguratTables.N, numRectangles, tables.r);
+        }
     }
 }
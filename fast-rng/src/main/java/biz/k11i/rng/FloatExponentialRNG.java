@@ -0,0 +1,190 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+
+import static biz.k11i.util.MathFunctions.exp;
+import static biz.k11i.util.MathFunctions.log1p;
+
+/**
+ * Exponential random number generator of single precision.
+ */
+public interface FloatExponentialRNG {
+    FloatExponentialRNG FAST_RNG = ZigguratFast.Z_256;
+
+    /**
+     * Generates a random value sampled from exponential distribution.
+     *
+     * @param random random number generator
+     * @param theta  mean of the distribution
+     * @return a random value
+     */
+    float generate(Random random, float theta);
+
+    /**
+     * Fills the specified range of the array with random values sampled from exponential distribution.
+     * <p>
+     * The values are not necessarily the same as those of calling {@link #generate(Random, float)} for each element.
+     * </p>
+     *
+     * @param random random number generator
+     * @param dst    array to be filled
+     * @param off    index of the first element to be filled
+     * @param len    number of the elements to be filled
+     * @param theta  mean of the distribution
+     */
+    default void fill(Random random, float[] dst, int off, int len, float theta) {
+        ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+        for (int j = off, end = off + len; j < end; j++) {
+            dst[j] = generate(random, theta);
+        }
+    }
+
+    /**
+     * Implementation of single precision Exponential random number generator using Ziggurat algorithm.
+     * <p>
+     * Tesuaki Yotsuji. <i>計算機シミュレーションのための確率分布乱数生成法.</i>
+     * Pleiades PUBLISHING Co.,Ltd. (2010)
+     * </p>
+     * <p>
+     * Each value is drawn from 32 bits: the lower bits select the rectangle
+     * and the remaining 24 bits are the position in the rectangle, which are as many as the significand bits of {@code float}.
+     * {@link #fill(Random, float[], int, int, float)} draws two values from each {@link Random#nextLong()}.
+     * The tables used in the fast path are {@code int[]} and {@code float[]}, which are half the size of those of
+     * {@link ExponentialRNG.ZigguratFast}.
+     * Values in the tail are sampled by the inversion method instead of restarting the algorithm.
+     * </p>
+     * <p>
+     * This implementation assumes that the values returned from {@link Random#nextLong()}
+     * have the independence of each bit.
+     * </p>
+     */
+    class ZigguratFast implements FloatExponentialRNG {
+        private static final ZigguratFast Z_256 = new ZigguratFast(8, 7.697117470131, 0.00394965982258);
+
+        private final int N;
+        private final double R;
+        private final double V;
+        private final int INDEX_BITS;
+        private final int INDEX_BIT_MASK;
+        private final int TAIL_INDEX;
+
+        private final int[] k;
+        private final float[] w;
+        private final double[] f;
+
+        /**
+         * Constructs {@link ZigguratFast} with parameters.
+         *
+         * @param nBits number of rectangles (2^nBits)
+         * @param r     rightmost x_i
+         * @param v     area of the rectangle
+         */
+        ZigguratFast(int nBits, double r, double v) {
+            N = 1 << nBits;
+            R = r;
+            V = v;
+            INDEX_BITS = nBits;
+            INDEX_BIT_MASK = (1 << nBits) - 1;
+            TAIL_INDEX = N - 1;
+
+            k = new int[N];
+            w = new float[N];
+            f = new double[N];
+
+            double b = 1 << (32 - nBits);
+            w[N - 1] = (float) (v * exp(r) / b);
+            w[N - 2] = (float) (r / b);
+            k[N - 1] = (int) Math.floor(r / w[N - 1]);
+            f[N - 1] = exp(-r);
+
+            double x = r;
+            for (int i = N - 2; i >= 1; i--) {
+                x = ExponentialRNG.ZigguratBase.finv(x, v);
+                w[i - 1] = (float) (x / b);
+                k[i] = (int) Math.floor(x / w[i]);
+                f[i] = exp(-x);
+            }
+
+            k[0] = 0;
+            f[0] = 1;
+        }
+
+        @Override
+        public float generate(Random random, float theta) {
+            return theta * generate(random);
+        }
+
+        private float generate(Random random) {
+            while (true) {
+                int u = random.nextInt();
+                int i = u & INDEX_BIT_MASK;
+                u >>>= INDEX_BITS;
+
+                if (u < k[i]) {
+                    return u * w[i];
+                }
+
+                if (i == TAIL_INDEX) {
+                    return (float) (R - log1p(-random.nextDouble()));
+                }
+
+                double x = u * (double) w[i];
+                if (random.nextDouble() * (f[i] - f[i + 1]) <= exp(-x) - f[i + 1]) {
+                    return (float) x;
+                }
+            }
+        }
+
+        @Override
+        public void fill(Random random, float[] dst, int off, int len, float theta) {
+            ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+            final int[] k = this.k;
+            final float[] w = this.w;
+            final int indexBitMask = INDEX_BIT_MASK;
+            final int indexBits = INDEX_BITS;
+
+            int j = off;
+            for (int end = off + len - 1; j < end; j += 2) {
+                long bits = random.nextLong();
+
+                int u = (int) (bits >>> 32);
+                int i = u & indexBitMask;
+                u >>>= indexBits;
+                dst[j] = theta * (u < k[i] ? u * w[i] : generateSlowPath(random, u, i));
+
+                u = (int) bits;
+                i = u & indexBitMask;
+                u >>>= indexBits;
+                dst[j + 1] = theta * (u < k[i] ? u * w[i] : generateSlowPath(random, u, i));
+            }
+
+            if (j < off + len) {
+                dst[j] = theta * generate(random);
+            }
+        }
+
+        /**
+         * Continues {@link #fill(Random, float[], int, int, float)}
+         * after the value drawn from the rectangle {@code i} was rejected.
+         */
+        private float generateSlowPath(Random random, int u, int i) {
+            if (i == TAIL_INDEX) {
+                return (float) (R - log1p(-random.nextDouble()));
+            }
+
+            double x = u * (double) w[i];
+            if (random.nextDouble() * (f[i] - f[i + 1]) <= exp(-x) - f[i + 1]) {
+                return (float) x;
+            }
+
+            return generate(random);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("FloatZigguratFast(N = %d, R = %f, V = %f)", N, R, V);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+
+import static biz.k11i.util.MathFunctions.exp;
+import static biz.k11i.util.MathFunctions.log;
+
+/**
+ * Gaussian random number generator of single precision.
+ */
+public interface FloatGaussianRNG {
+    FloatGaussianRNG FAST_RNG = ZigguratFast.Z_256;
+
+    /**
+     * Generates a random value sampled from standard gaussian distribution.
+     *
+     * @param random random number generator
+     * @return a random value
+     */
+    float generate(Random random);
+
+    /**
+     * Fills the specified range of the array with random values sampled from standard gaussian distribution.
+     *
+     * @param random random number generator
+     * @param dst    array to be filled
+     * @param off    index of the first element to be filled
+     * @param len    number of the elements to be filled
+     */
+    default void fill(Random random, float[] dst, int off, int len) {
+        fill(random, dst, off, len, 0.0f, 1.0f);
+    }
+
+    /**
+     * Fills the specified range of the array with random values sampled from gaussian distribution.
+     * <p>
+     * The values are not necessarily the same as those of calling {@link #generate(Random)} for each element.
+     * </p>
+     *
+     * @param random random number generator
+     * @param dst    array to be filled
+     * @param off    index of the first element to be filled
+     * @param len    number of the elements to be filled
+     * @param mean   mean of the distribution
+     * @param sd     standard deviation of the distribution
+     */
+    default void fill(Random random, float[] dst, int off, int len, float mean, float sd) {
+        ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+        for (int j = off, end = off + len; j < end; j++) {
+            dst[j] = mean + sd * generate(random);
+        }
+    }
+
+    /**
+     * Implementation of single precision Gaussian random number generator using Ziggurat algorithm.
+     * <p>
+     * Marsaglia, George, and Wai Wan Tsang.
+     * <i>"The ziggurat method for generating random variables."</i>
+     * Journal of statistical software 5.8 (2000): 1-7.
+     * </p>
+     * <p>
+     * Each value is drawn from 32 bits: the upper bits select the rectangle, the next bit is the sign
+     * and the remaining 23 bits are the position in the rectangle, which are as many as the fraction bits of {@code float}.
+     * {@link #fill(Random, float[], int, int, float, float)} draws two values from each {@link Random#nextLong()}.
+     * The tables used in the fast path are {@code int[]} and {@code float[]}, which are half the size of those of
+     * {@link GaussianRNG.ZigguratFast}.
+     * </p>
+     * <p>
+     * This implementation assumes that the values returned from {@link Random#nextLong()}
+     * have the independence of each bit.
+     * </p>
+     */
+    class ZigguratFast implements FloatGaussianRNG {
+        private static final ZigguratFast Z_256 = new ZigguratFast(8, 3.6541528853610088, 0.00492867323399);
+
+        private final int N;
+        private final double R;
+        private final double V;
+        private final int INDEX_RIGHT_SHIFT_BITS;
+        private final int SIGN_BIT_MASK;
+        private final int U_BIT_MASK;
+        private final int TAIL_INDEX;
+
+        private final int[] k;
+        private final float[] w;
+        private final double[] f;
+
+        /**
+         * Constructs {@link ZigguratFast} with parameters.
+         *
+         * @param nBits number of rectangles (2^nBits)
+         * @param r     rightmost x_i
+         * @param v     area of the rectangle
+         */
+        ZigguratFast(int nBits, double r, double v) {
+            N = 1 << nBits;
+            R = r;
+            V = v;
+            INDEX_RIGHT_SHIFT_BITS = 32 - nBits;
+            SIGN_BIT_MASK = 1 << (32 - nBits - 1);
+            U_BIT_MASK = (1 << (32 - nBits - 1)) - 1;
+            TAIL_INDEX = N - 1;
+
+            k = new int[N];
+            w = new float[N];
+            f = new double[N];
+
+            double b = 1 << (32 - nBits - 1);
+
+            w[N - 1] = (float) (v * exp(0.5 * r * r) / b);
+            w[N - 2] = (float) (r / b);
+            k[N - 1] = (int) Math.floor(r / w[N - 1]);
+            f[N - 1] = GaussianRNG.ZigguratBase.f(r);
+
+            double x = r;
+
+            for (int i = N - 2; i >= 1; i--) {
+                x = Math.sqrt(-2.0 * log(GaussianRNG.ZigguratBase.f(x) + v / x));
+                w[i - 1] = (float) (x / b);
+                k[i] = (int) Math.floor(x / w[i]);
+                f[i] = GaussianRNG.ZigguratBase.f(x);
+            }
+
+            k[0] = 0;
+            f[0] = 1;
+        }
+
+        @Override
+        public float generate(Random random) {
+            while (true) {
+                int u = random.nextInt();
+                int i = u >>> INDEX_RIGHT_SHIFT_BITS;
+                int sign = (u & SIGN_BIT_MASK) == 0 ? 1 : -1;
+                u &= U_BIT_MASK;
+
+                if (u < k[i]) {
+                    return sign * u * w[i];
+                }
+
+                if (i == TAIL_INDEX) {
+                    return (float) (sign * GaussianRNG.ZigguratBase.tail(UniformSources.of(random), R));
+                }
+
+                double x = u * (double) w[i];
+                if (random.nextDouble() * (f[i] - f[i + 1]) <= GaussianRNG.ZigguratBase.f(x) - f[i + 1]) {
+                    return (float) (sign * x);
+                }
+            }
+        }
+
+        @Override
+        public void fill(Random random, float[] dst, int off, int len, float mean, float sd) {
+            ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+            final int[] k = this.k;
+            final float[] w = this.w;
+            final int indexRightShiftBits = INDEX_RIGHT_SHIFT_BITS;
+            final int signBitMask = SIGN_BIT_MASK;
+            final int uBitMask = U_BIT_MASK;
+
+            int j = off;
+            for (int end = off + len - 1; j < end; j += 2) {
+                long bits = random.nextLong();
+
+                int u = (int) (bits >>> 32);
+                int i = u >>> indexRightShiftBits;
+                int sign = (u & signBitMask) == 0 ? 1 : -1;
+                u &= uBitMask;
+                float z = u < k[i] ? sign * u * w[i] : generateSlowPath(random, u, i, sign);
+                dst[j] = mean + sd * z;
+
+                u = (int) bits;
+                i = u >>> indexRightShiftBits;
+                sign = (u & signBitMask) == 0 ? 1 : -1;
+                u &= uBitMask;
+                z = u < k[i] ? sign * u * w[i] : generateSlowPath(random, u, i, sign);
+                dst[j + 1] = mean + sd * z;
+            }
+
+            if (j < off + len) {
+                dst[j] = mean + sd * generate(random);
+            }
+        }
+
+        /**
+         * Continues {@link #fill(Random, float[], int, int, float, float)}
+         * after the value drawn from the rectangle {@code i} was rejected.
+         */
+        private float generateSlowPath(Random random, int u, int i, int sign) {
+            if (i == TAIL_INDEX) {
+                return (float) (sign * GaussianRNG.ZigguratBase.tail(UniformSources.of(random), R));
+            }
+
+            double x = u * (double) w[i];
+            if (random.nextDouble() * (f[i] - f[i + 1]) <= GaussianRNG.ZigguratBase.f(x) - f[i + 1]) {
+                return (float) (sign * x);
+            }
+
+            return generate(random);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("FloatZigguratFast(N = %d, R = %f, V = %f)", N, R, V);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package biz.k11i.rng;
 
+import java.util.Arrays;
 import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.DoubleStream;
 
 import static biz.k11i.util.MathFunctions.*;
 import static java.lang.Math.sqrt;
@@ -22,13 +25,121 @@ public interface GammaRNG {
      */
     double generate(Random random, double shape, double scale);
 
+    /**
+     * Generates a random value sampled from gamma distribution.
+     * <p>
+     * The default implementation adapts {@code source} to {@link Random};
+     * the implementations of this library override it and draw random values from {@code source} directly.
+     * </p>
+     *
+     * @param source source of uniform random numbers
+     * @param shape  shape parameter (alpha)
+     * @param scale  scale parameter (beta)
+     * @return a random value
+     */
+    default double generate(UniformSource source, double shape, double scale) {
+        return generate(UniformSources.asRandom(source), shape, scale);
+    }
+
+    /**
+     * Generates a random value sampled from gamma distribution.
+     * <p>
+     * The result is the same as that of {@link #generate(UniformSource, double, double)}
+     * with {@link UniformSource#of(SplittableRandom)}.
+     * </p>
+     *
+     * @param random random number generator ({@link SplittableRandom} object)
+     * @param shape  shape parameter (alpha)
+     * @param scale  scale parameter (beta)
+     * @return a random value
+     */
+    default double generate(SplittableRandom random, double shape, double scale) {
+        return generate(UniformSource.of(random), shape, scale);
+    }
+
+    /**
+     * Generates random values sampled from gamma distributions with different shape parameters.
+     * <p>
+     * {@code out[i]} is sampled from the gamma distribution with parameters {@code shapes[i]} and {@code scale}.
+     * The values are not necessarily generated in the order of the index,
+     * so the result may differ from that of calling {@link #generate(Random, double, double)} for each index.
+     * </p>
+     *
+     * @param random random number generator
+     * @param shapes shape parameters (alpha)
+     * @param scale  scale parameter (beta)
+     * @param out    array to store the random values
+     */
+    default void generate(Random random, double[] shapes, double scale, double[] out) {
+        if (out.length != shapes.length) {
+            throw new IllegalArgumentException("shapes and out must have the same length");
+        }
+
+        for (int i = 0; i < shapes.length; i++) {
+            out[i] = generate(random, shapes[i], scale);
+        }
+    }
+
+    /**
+     * Returns a gamma random number generator whose parameters are fixed.
+     * <p>
+     * It is faster than {@link #generate(Random, double, double)} when many values are sampled
+     * with the same parameters.
+     * </p>
+     *
+     * @param shape shape parameter (alpha)
+     * @param scale scale parameter (beta)
+     * @return a random number generator
+     */
+    default GammaSampler sampler(double shape, double scale) {
+        return random -> generate(random, shape, scale);
+    }
+
+    /**
+     * Returns a sequential stream of random values sampled from gamma distribution.
+     * <p>
+     * The stream reports {@link java.util.Spliterator#SIZED} and {@link java.util.Spliterator#SUBSIZED},
+     * so that it can be processed in parallel efficiently.
+     * The values are the same regardless of whether the stream is sequential or parallel:
+     * they are generated in blocks of {@link ParallelFill#BLOCK_SIZE} elements, and the block {@code b} uses
+     * {@code new SplitMix64(seed, b)} as the uniform random number generator.
+     * </p>
+     *
+     * @param seed  the seed
+     * @param size  the number of the values
+     * @param shape shape parameter (alpha)
+     * @param scale scale parameter (beta)
+     * @return a stream of random values
+     */
+    default DoubleStream stream(long seed, long size, double shape, double scale) {
+        return RandomSpliterator.stream(seed, size, sampler(shape, scale)::generate);
+    }
+
     class FastRNG implements GammaRNG {
-        private final GammaRNG mt = new GammaRNGAlgorithms.MarsagliaTsang(GaussianRNG.FAST_RNG);
-        private final GammaRNG exponential = new GammaRNGAlgorithms.Exponential(ExponentialRNG.FAST_RNG);
-        private final GammaRNG wh = new GammaRNGAlgorithms.WilsonHilfertyApproximation(GaussianRNG.FAST_RNG);
+        private final GammaRNGAlgorithms.MarsagliaTsang mt = new GammaRNGAlgorithms.MarsagliaTsang(GaussianRNG.FAST_RNG);
+        private final GammaRNGAlgorithms.Exponential exponential = new GammaRNGAlgorithms.Exponential(ExponentialRNG.FAST_RNG);
+        private final GammaRNGAlgorithms.WilsonHilfertyApproximation wh = new GammaRNGAlgorithms.WilsonHilfertyApproximation(GaussianRNG.FAST_RNG);
 
         @Override
         public double generate(Random random, double shape, double scale) {
+            return generate(UniformSources.of(random), shape, scale);
+        }
+
+        @Override
+        public double generate(UniformSource source, double shape, double scale) {
+            if (shape >= 50) {
+                return wh.generate(source, shape, scale);
+            }
+            if (shape != 1.0) {
+                return mt.generate(source, shape, scale);
+            }
+
+            // shape == 1.0
+            return exponential.generate(source, shape, scale);
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double shape, double scale) {
             if (shape >= 50) {
                 return wh.generate(random, shape, scale);
             }
@@ -39,16 +150,71 @@ public interface GammaRNG {
             // shape == 1.0
             return exponential.generate(random, shape, scale);
         }
+
+        @Override
+        public GammaSampler sampler(double shape, double scale) {
+            if (shape >= 50) {
+                return wh.sampler(shape, scale);
+            }
+            if (shape != 1.0) {
+                return mt.sampler(shape, scale);
+            }
+
+            // shape == 1.0
+            return exponential.sampler(shape, scale);
+        }
+
+        @Override
+        public void generate(Random random, double[] shapes, double scale, double[] out) {
+            if (out.length != shapes.length) {
+                throw new IllegalArgumentException("shapes and out must have the same length");
+            }
+
+            byte[] regimes = new byte[shapes.length];
+            for (int i = 0; i < shapes.length; i++) {
+                double shape = shapes[i];
+                if (shape >= 50) {
+                    regimes[i] = GammaRNGAlgorithms.Batch.WILSON_HILFERTY;
+                } else if (shape != 1.0) {
+                    regimes[i] = shape >= 1 ? GammaRNGAlgorithms.Batch.MARSAGLIA_TSANG : GammaRNGAlgorithms.Batch.MARSAGLIA_TSANG_BOOSTED;
+                } else {
+                    regimes[i] = GammaRNGAlgorithms.Batch.EXPONENTIAL;
+                }
+            }
+
+            GammaRNGAlgorithms.Batch.generate(UniformSources.of(random), shapes, scale, out, regimes, wh, null, mt, exponential);
+        }
     }
 
     class GeneralRNG implements GammaRNG {
-        private final GammaRNG best = new GammaRNGAlgorithms.Best();
-        private final GammaRNG mt = new GammaRNGAlgorithms.MarsagliaTsang(GaussianRNG.GENERAL_RNG);
-        private final GammaRNG exponential = new GammaRNGAlgorithms.Exponential(ExponentialRNG.GENERAL_RNG);
-        private final GammaRNG wh = new GammaRNGAlgorithms.WilsonHilfertyApproximation(GaussianRNG.GENERAL_RNG);
+        private final GammaRNGAlgorithms.Best best = new GammaRNGAlgorithms.Best();
+        private final GammaRNGAlgorithms.MarsagliaTsang mt = new GammaRNGAlgorithms.MarsagliaTsang(GaussianRNG.GENERAL_RNG);
+        private final GammaRNGAlgorithms.Exponential exponential = new GammaRNGAlgorithms.Exponential(ExponentialRNG.GENERAL_RNG);
+        private final GammaRNGAlgorithms.WilsonHilfertyApproximation wh = new GammaRNGAlgorithms.WilsonHilfertyApproximation(GaussianRNG.GENERAL_RNG);
 
         @Override
         public double generate(Random random, double shape, double scale) {
+            return generate(UniformSources.of(random), shape, scale);
+        }
+
+        @Override
+        public double generate(UniformSource source, double shape, double scale) {
+            if (shape >= 50) {
+                return wh.generate(source, shape, scale);
+            }
+            if (shape < 0.1) {
+                return best.generate(source, shape, scale);
+            }
+            if (shape != 1.0) {
+                return mt.generate(source, shape, scale);
+            }
+
+            // shape == 1.0
+            return exponential.generate(source, shape, scale);
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double shape, double scale) {
             if (shape >= 50) {
                 return wh.generate(random, shape, scale);
             }
@@ -62,17 +228,141 @@ public interface GammaRNG {
             // shape == 1.0
             return exponential.generate(random, shape, scale);
         }
+
+        @Override
+        public GammaSampler sampler(double shape, double scale) {
+            if (shape >= 50) {
+                return wh.sampler(shape, scale);
+            }
+            if (shape < 0.1) {
+                return best.sampler(shape, scale);
+            }
+            if (shape != 1.0) {
+                return mt.sampler(shape, scale);
+            }
+
+            // shape == 1.0
+            return exponential.sampler(shape, scale);
+        }
+
+        @Override
+        public void generate(Random random, double[] shapes, double scale, double[] out) {
+            if (out.length != shapes.length) {
+                throw new IllegalArgumentException("shapes and out must have the same length");
+            }
+
+            byte[] regimes = new byte[shapes.length];
+            for (int i = 0; i < shapes.length; i++) {
+                double shape = shapes[i];
+                if (shape >= 50) {
+                    regimes[i] = GammaRNGAlgorithms.Batch.WILSON_HILFERTY;
+                } else if (shape < 0.1) {
+                    regimes[i] = GammaRNGAlgorithms.Batch.BEST;
+                } else if (shape != 1.0) {
+                    regimes[i] = shape >= 1 ? GammaRNGAlgorithms.Batch.MARSAGLIA_TSANG : GammaRNGAlgorithms.Batch.MARSAGLIA_TSANG_BOOSTED;
+                } else {
+                    regimes[i] = GammaRNGAlgorithms.Batch.EXPONENTIAL;
+                }
+            }
+
+            GammaRNGAlgorithms.Batch.generate(UniformSources.of(random), shapes, scale, out, regimes, wh, best, mt, exponential);
+        }
     }
 }
 
 class GammaRNGAlgorithms {
+    /**
+     * Generates gamma random values for an array of shape parameters regime by regime.
+     * <p>
+     * The indices are grouped by the regime (the algorithm to be used), and the values of each group
+     * are generated in a tight loop. For the shape parameters less than 1, the Marsaglia-Tsang's variates
+     * of {@code shape + 1} are generated first, and then they are boosted by {@code u^(1 / shape)} in a separate pass.
+     * </p>
+     */
+    static class Batch {
+        static final byte WILSON_HILFERTY = 0;
+        static final byte BEST = 1;
+        static final byte MARSAGLIA_TSANG = 2;
+        static final byte MARSAGLIA_TSANG_BOOSTED = 3;
+        static final byte EXPONENTIAL = 4;
+        private static final int NUM_REGIMES = 5;
+
+        static void generate(
+                UniformSource source,
+                double[] shapes,
+                double scale,
+                double[] out,
+                byte[] regimes,
+                WilsonHilfertyApproximation wh,
+                Best best,
+                MarsagliaTsang mt,
+                Exponential exponential) {
+
+            int n = shapes.length;
+            int[] regimeStarts = new int[NUM_REGIMES + 1];
+            for (int i = 0; i < n; i++) {
+                regimeStarts[regimes[i] + 1]++;
+            }
+            for (int r = 0; r < NUM_REGIMES; r++) {
+                regimeStarts[r + 1] += regimeStarts[r];
+            }
+
+            int[] positions = Arrays.copyOf(regimeStarts, NUM_REGIMES);
+            int[] indices = new int[n];
+            for (int i = 0; i < n; i++) {
+                indices[positions[regimes[i]]++] = i;
+            }
+
+            for (int k = regimeStarts[WILSON_HILFERTY], end = regimeStarts[WILSON_HILFERTY + 1]; k < end; k++) {
+                int i = indices[k];
+                out[i] = wh.generate(source, shapes[i]) * scale;
+            }
+
+            for (int k = regimeStarts[BEST], end = regimeStarts[BEST + 1]; k < end; k++) {
+                int i = indices[k];
+                out[i] = best.generate(source, shapes[i]) * scale;
+            }
+
+            for (int k = regimeStarts[MARSAGLIA_TSANG], end = regimeStarts[MARSAGLIA_TSANG + 1]; k < end; k++) {
+                int i = indices[k];
+                out[i] = mt.generateMT(source, shapes[i]) * scale;
+            }
+
+            int boostedStart = regimeStarts[MARSAGLIA_TSANG_BOOSTED];
+            int boostedEnd = regimeStarts[MARSAGLIA_TSANG_BOOSTED + 1];
+
+            for (int k = boostedStart; k < boostedEnd; k++) {
+                int i = indices[k];
+                out[i] = mt.generateMT(source, shapes[i] + 1);
+            }
+
+            for (int k = boostedStart; k < boostedEnd; k++) {
+                int i = indices[k];
+                double shape = shapes[i];
+                double u = source.nextDouble();
+
+                out[i] = (shape != 0.5 ? out[i] * pow(u, 1.0 / shape) : out[i] * u * u) * scale;
+            }
+
+            for (int k = regimeStarts[EXPONENTIAL], end = regimeStarts[EXPONENTIAL + 1]; k < end; k++) {
+                int i = indices[k];
+                out[i] = exponential.generate(source, shapes[i], scale);
+            }
+        }
+    }
+
     abstract static class BaseGammaRNG implements GammaRNG {
         @Override
         public double generate(Random random, double shape, double scale) {
-            return generate(random, shape) * scale;
+            return generate(UniformSources.of(random), shape) * scale;
         }
 
-        abstract double generate(Random random, double shape);
+        @Override
+        public double generate(UniformSource source, double shape, double scale) {
+            return generate(source, shape) * scale;
+        }
+
+        abstract double generate(UniformSource source, double shape);
 
         @Override
         public String toString() {
@@ -90,11 +380,68 @@ class GammaRNGAlgorithms {
      */
     static class Best extends BaseGammaRNG {
         @Override
-        double generate(Random random, double shape) {
+        double generate(UniformSource source, double shape) {
             double c1 = 0.07 + 0.75 * sqrt(1 - shape);
             double c2 = 1 + shape * exp(-c1) / c1;
             double c3 = 1.0 / shape;
 
+            return generate(source, shape, c1, c2, c3);
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double shape, double scale) {
+            double c1 = 0.07 + 0.75 * sqrt(1 - shape);
+            double c2 = 1 + shape * exp(-c1) / c1;
+            double c3 = 1.0 / shape;
+
+            return generate(random, shape, c1, c2, c3) * scale;
+        }
+
+        @Override
+        public GammaSampler sampler(double shape, double scale) {
+            double c1 = 0.07 + 0.75 * sqrt(1 - shape);
+            double c2 = 1 + shape * exp(-c1) / c1;
+            double c3 = 1.0 / shape;
+
+            return new GammaSampler() {
+                @Override
+                public double generate(Random random) {
+                    return Best.generate(UniformSources.of(random), shape, c1, c2, c3) * scale;
+                }
+
+                @Override
+                public String toString() {
+                    return String.format("Best(shape = %f, scale = %f)", shape, scale);
+                }
+            };
+        }
+
+        static double generate(UniformSource source, double shape, double c1, double c2, double c3) {
+            while (true) {
+                double u1 = source.nextDouble();
+                double u2 = source.nextDouble();
+                double v = c2 * u1;
+
+                if (v <= 1) {
+                    double x = c1 * pow(v, c3);
+                    if (u2 <= (2 - x) / (2 + x) || u2 <= exp(-x)) {
+                        return x;
+                    }
+                } else {
+                    double x = -log(c1 * c3 * (c2 - v));
+                    double y = x / c1;
+                    if (u2 * (shape + y - shape * y) <= 1 || u2 < pow(y, shape - 1)) {
+                        return x;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Same as {@link #generate(UniformSource, double, double, double, double)}
+         * but draws the random values from {@link SplittableRandom} object directly.
+         */
+        static double generate(SplittableRandom random, double shape, double c1, double c2, double c3) {
             while (true) {
                 double u1 = random.nextDouble();
                 double u2 = random.nextDouble();
@@ -128,6 +475,33 @@ class GammaRNGAlgorithms {
             return exponentialRNG.generate(random, 1.0) * scale;
         }
 
+        @Override
+        public double generate(UniformSource source, double shape, double scale) {
+            return exponentialRNG.generate(source, 1.0) * scale;
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double shape, double scale) {
+            return exponentialRNG.generate(random, 1.0) * scale;
+        }
+
+        @Override
+        public GammaSampler sampler(double shape, double scale) {
+            ExponentialRNG exponentialRNG = this.exponentialRNG;
+
+            return new GammaSampler() {
+                @Override
+                public double generate(Random random) {
+                    return exponentialRNG.generate(random, 1.0) * scale;
+                }
+
+                @Override
+                public String toString() {
+                    return String.format("Exponential[%s](scale = %f)", exponentialRNG.getClass().getSimpleName(), scale);
+                }
+            };
+        }
+
         @Override
         public String toString() {
             return String.format("Exponential[%s]", exponentialRNG.getClass().getSimpleName());
@@ -150,13 +524,13 @@ class GammaRNGAlgorithms {
         }
 
         @Override
-        double generate(Random random, double shape) {
+        double generate(UniformSource source, double shape) {
             if (shape >= 1) {
-                return generateMT(random, shape);
+                return generateMT(source, shape);
             }
 
-            double r = generateMT(random, shape + 1);
-            double u = random.nextDouble();
+            double r = generateMT(source, shape + 1);
+            double u = source.nextDouble();
 
             if (shape != 0.5) {
                 return r * pow(u, 1.0 / shape);
@@ -166,29 +540,68 @@ class GammaRNGAlgorithms {
             return r * u * u;
         }
 
-        double generateMT(Random random, double shape) {
-            double d = shape - 1.0 / 3;
+        /**
+         * Draws the random values from {@code random} directly,
+         * so that the common cases of {@link GammaRNG#generate(SplittableRandom, double, double)}
+         * do not wrap it for each value.
+         */
+        @Override
+        public double generate(SplittableRandom random, double shape, double scale) {
+            double d = (shape >= 1 ? shape : shape + 1) - 1.0 / 3;
+            double r = MarsagliaTsangGamma.generate(gaussianRNG, random, d, 1 / sqrt(9 * d));
+            if (shape >= 1) {
+                return r * scale;
+            }
+
+            double u = random.nextDouble();
+
+            if (shape != 0.5) {
+                return r * pow(u, 1.0 / shape) * scale;
+            }
+
+            // shape == 0.5
+            return r * u * u * scale;
+        }
+
+        @Override
+        public GammaSampler sampler(double shape, double scale) {
+            GaussianRNG gaussianRNG = this.gaussianRNG;
+            double d = (shape >= 1 ? shape : shape + 1) - 1.0 / 3;
             double c = 1 / sqrt(9 * d);
+            double invShape = 1.0 / shape;
+
+            return new GammaSampler() {
+                @Override
+                public double generate(Random random) {
+                    UniformSource source = UniformSources.of(random);
+                    double r = MarsagliaTsangGamma.generate(gaussianRNG, source, d, c);
+                    if (shape >= 1) {
+                        return r * scale;
+                    }
 
-            while (true) {
-                double x = gaussianRNG.generate(random);
-                double v = 1 + c * x;
-                if (v <= 0) {
-                    continue;
-                }
+                    double u = source.nextDouble();
 
-                v = v * v * v;
-                x = x * x;
+                    if (shape != 0.5) {
+                        return r * pow(u, invShape) * scale;
+                    }
 
-                double u = random.nextDouble();
-                if (u < 1 - 0.0331 * x * x) {
-                    return d * v;
+                    // shape == 0.5
+                    return r * u * u * scale;
                 }
 
-                if (log(u) < 0.5 * x + d * (1 - v + log(v))) {
-                    return d * v;
+                @Override
+                public String toString() {
+                    return String.format("MarsagliaTsang[%s](shape = %f, scale = %f)",
+                            gaussianRNG.getClass().getSimpleName(), shape, scale);
                 }
-            }
+            };
+        }
+
+        double generateMT(UniformSource source, double shape) {
+            double d = shape - 1.0 / 3;
+            double c = 1 / sqrt(9 * d);
+
+            return MarsagliaTsangGamma.generate(gaussianRNG, source, d, c);
         }
 
         @Override
@@ -216,7 +629,16 @@ class GammaRNGAlgorithms {
         }
 
         @Override
-        double generate(Random random, double shape) {
+        double generate(UniformSource source, double shape) {
+            double t0 = 1.0 / (9.0 * shape);
+            double t1 = 1.0 - t0;
+            double t2 = sqrt(t0);
+
+            return generate(gaussianRNG, source, shape, t1, t2);
+        }
+
+        @Override
+        public double generate(SplittableRandom random, double shape, double scale) {
             double t0 = 1.0 / (9.0 * shape);
             double t1 = 1.0 - t0;
             double t2 = sqrt(t0);
@@ -227,6 +649,38 @@ class GammaRNGAlgorithms {
                     continue;
                 }
 
+                return shape * t * t * t * scale;
+            }
+        }
+
+        @Override
+        public GammaSampler sampler(double shape, double scale) {
+            GaussianRNG gaussianRNG = this.gaussianRNG;
+            double t0 = 1.0 / (9.0 * shape);
+            double t1 = 1.0 - t0;
+            double t2 = sqrt(t0);
+
+            return new GammaSampler() {
+                @Override
+                public double generate(Random random) {
+                    return WilsonHilfertyApproximation.generate(gaussianRNG, UniformSources.of(random), shape, t1, t2) * scale;
+                }
+
+                @Override
+                public String toString() {
+                    return String.format("WilsonHilfertyApproximation[%s](shape = %f, scale = %f)",
+                            gaussianRNG.getClass().getSimpleName(), shape, scale);
+                }
+            };
+        }
+
+        static double generate(GaussianRNG gaussianRNG, UniformSource source, double shape, double t1, double t2) {
+            while (true) {
+                double t = t1 + t2 * gaussianRNG.generate(source);
+                if (t <= 0) {
+                    continue;
+                }
+
                 return shape * t * t * t;
             }
         }
@@ -0,0 +1,21 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+
+/**
+ * Gamma random number generator whose parameters are fixed.
+ * <p>
+ * Objects of this interface are immutable; algorithm selection and the constants that depend only on
+ * the parameters are resolved when they are created by {@link GammaRNG#sampler(double, double)}.
+ * </p>
+ */
+@FunctionalInterface
+public interface GammaSampler {
+    /**
+     * Generates a random value sampled from gamma distribution.
+     *
+     * @param random random number generator
+     * @return a random value
+     */
+    double generate(Random random);
+}
@@ -0,0 +1,76 @@
+package biz.k11i.rng;
+
+import java.util.SplittableRandom;
+
+import static biz.k11i.util.MathFunctions.log;
+
+/**
+ * Rejection loop of Marsaglia and Tsang's algorithm,
+ * which is shared by {@link GammaRNG} and {@link DirichletRNG}.
+ * <p>
+ * Marsaglia, George, and Wai Wan Tsang.
+ * <i>"A simple method for generating gamma variables."</i>
+ * ACM Transactions on Mathematical Software (TOMS) 26.3 (2000): 363-372.
+ * </p>
+ */
+final class MarsagliaTsangGamma {
+    private MarsagliaTsangGamma() {
+    }
+
+    /**
+     * Generates a random value sampled from {@code Gamma(d + 1 / 3, 1)} for {@code d + 1 / 3 >= 1}.
+     *
+     * @param gaussianRNG Gaussian random number generator
+     * @param source      source of uniform random numbers
+     * @param d           {@code shape - 1 / 3}
+     * @param c           {@code 1 / sqrt(9 * d)}
+     * @return a random value
+     */
+    static double generate(GaussianRNG gaussianRNG, UniformSource source, double d, double c) {
+        while (true) {
+            double x = gaussianRNG.generate(source);
+            double v = 1 + c * x;
+            if (v <= 0) {
+                continue;
+            }
+
+            v = v * v * v;
+            x = x * x;
+
+            double u = source.nextDouble();
+            if (u < 1 - 0.0331 * x * x) {
+                return d * v;
+            }
+
+            if (log(u) < 0.5 * x + d * (1 - v + log(v))) {
+                return d * v;
+            }
+        }
+    }
+
+    /**
+     * Generates a random value in the same way as {@link #generate(GaussianRNG, UniformSource, double, double)}
+     * from {@link SplittableRandom} object.
+     */
+    static double generate(GaussianRNG gaussianRNG, SplittableRandom random, double d, double c) {
+        while (true) {
+            double x = gaussianRNG.generate(random);
+            double v = 1 + c * x;
+            if (v <= 0) {
+                continue;
+            }
+
+            v = v * v * v;
+            x = x * x;
+
+            double u = random.nextDouble();
+            if (u < 1 - 0.0331 * x * x) {
+                return d * v;
+            }
+
+            if (log(u) < 0.5 * x + d * (1 - v + log(v))) {
+                return d * v;
+            }
+        }
+    }
+}
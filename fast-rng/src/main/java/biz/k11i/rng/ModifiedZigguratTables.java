@@ -0,0 +1,300 @@
+package biz.k11i.rng;
+
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Tables of the modified ziggurat algorithm for a decreasing density {@code f} on {@code [0, ∞)} with {@code f(0) = 1}.
+ * <p>
+ * McFarland, Christopher D.
+ * <i>"A modified ziggurat algorithm for generating exponentially and normally distributed pseudorandom numbers."</i>
+ * Journal of statistical computation and simulation 86.7 (2016): 1281-1294.
+ * </p>
+ * <p>
+ * The area under {@code f} is divided into {@link #N} columns of the same area.
+ * Each of the first {@link #numRectangles} columns is a rectangle {@code [0, x_j] × [f(x_{j-1}), f(x_j)]}
+ * lying under the curve, from which a value is drawn with a single uniform random number and no rejection.
+ * The remaining columns make up an alias table over the overhangs, which are the regions between the rectangles
+ * and the curve, and the tail beyond {@code x_0}.
+ * A value in an overhang is drawn by rejection from the triangle below (convex) or above (concave) the chord
+ * of the overhang, and {@code f} is evaluated only when the point lies within {@code eps} of the chord.
+ * </p>
+ */
+class ModifiedZigguratTables {
+    static final int INDEX_BITS = 8;
+    static final int N = 1 << INDEX_BITS;
+
+    private static final byte CONVEX = 0;
+    private static final byte CONCAVE = 1;
+    private static final byte GENERAL = 2;
+
+    private final DoubleUnaryOperator f;
+
+    /** Number of the columns consisting of a rectangle. */
+    final int numRectangles;
+    /** {@code w[j] = x_j / 2^uBits}: the width of the rectangle {@code j} per unit of {@code uBits}-bit integer. */
+    final double[] w;
+    /** Leftmost x of the tail. */
+    final double r;
+    /** Index of the tail in the alias table; the overhangs are {@code 0 .. tailIndex - 1}. */
+    final int tailIndex;
+
+    private final long[] threshold;
+    private final int[] alias;
+
+    private final double[] xl;
+    private final double[] dx;
+    private final double[] yb;
+    private final double[] dy;
+    private final double[] eps;
+    private final byte[] kind;
+
+    /**
+     * Constructs the tables.
+     *
+     * @param f          density function with {@code f(0) = 1}
+     * @param area       area under {@code f}
+     * @param inflection x of the inflection point of {@code f}: convex on the right and concave on the left
+     * @param uBits      number of the bits of the integer multiplied by {@link #w}
+     */
+    ModifiedZigguratTables(DoubleUnaryOperator f, double area, double inflection, int uBits) {
+        this.f = f;
+        double c = area / N;
+
+        // stacks the rectangles of area c from the bottom as long as they fit under the curve
+        double[] x = new double[N - 1];
+        double hi = 1;
+        while (hi * f.applyAsDouble(hi) > c) {
+            hi *= 2;
+        }
+        DoubleUnaryOperator h0 = t -> t * f.applyAsDouble(t);
+        x[0] = root(h0, c, argmax(h0, 0, hi), hi);
+
+        int k = 1;
+        for (; k < N - 1; k++) {
+            double fPrev = f.applyAsDouble(x[k - 1]);
+            DoubleUnaryOperator h = t -> t * (f.applyAsDouble(t) - fPrev);
+            double m = argmax(h, 0, x[k - 1]);
+            if (h.applyAsDouble(m) < c) {
+                break;
+            }
+            x[k] = root(h, c, m, x[k - 1]);
+        }
+
+        numRectangles = k;
+        r = x[0];
+        tailIndex = k;
+
+        w = new double[k];
+        for (int j = 0; j < k; j++) {
+            w[j] = Math.scalb(x[j], -uBits);
+        }
+
+        // the overhang 0 is the cap above the top rectangle
+        xl = new double[k];
+        dx = new double[k];
+        yb = new double[k];
+        dy = new double[k];
+        eps = new double[k];
+        kind = new byte[k];
+
+        double[] mass = new double[k + 1];
+        double overhangMass = 0;
+        for (int i = 0; i < k; i++) {
+            double left = i == 0 ? 0 : x[i];
+            double right = i == 0 ? x[k - 1] : x[i - 1];
+            double bottom = f.applyAsDouble(right);
+            double top = i == 0 ? 1 : f.applyAsDouble(left);
+
+            xl[i] = left;
+            dx[i] = right - left;
+            yb[i] = bottom;
+            dy[i] = top - bottom;
+            kind[i] = left >= inflection ? CONVEX : right <= inflection ? CONCAVE : GENERAL;
+            eps[i] = maxDistanceFromChord(i);
+
+            mass[i] = integrate(f, left, right) - dx[i] * bottom;
+            overhangMass += mass[i];
+        }
+        mass[k] = (N - k) * c - overhangMass;
+
+        threshold = new long[N];
+        alias = new int[N];
+        buildAliasTable(mass);
+    }
+
+    /**
+     * Returns the index of the overhang or the tail chosen by the alias table.
+     *
+     * @param u 64-bit random value
+     */
+    int region(long u) {
+        int j = (int) u & (N - 1);
+        return (u >>> INDEX_BITS) < threshold[j] ? j : alias[j];
+    }
+
+    /**
+     * Returns a value sampled from the overhang {@code i}.
+     */
+    double overhang(UniformSource source, int i) {
+        final double xl = this.xl[i];
+        final double dx = this.dx[i];
+        final double yb = this.yb[i];
+        final double dy = this.dy[i];
+        final double eps = this.eps[i];
+
+        switch (kind[i]) {
+            case CONVEX:
+                while (true) {
+                    double ux = source.nextDouble();
+                    double uy = source.nextDouble();
+                    if (uy > 1.0 - ux) {
+                        // the curve is below the chord: reflects the point into the lower triangle
+                        ux = 1.0 - ux;
+                        uy = 1.0 - uy;
+                    }
+
+                    double x = xl + ux * dx;
+                    if (uy <= 1.0 - ux - eps || yb + uy * dy <= f.applyAsDouble(x)) {
+                        return x;
+                    }
+                }
+
+            case CONCAVE:
+                while (true) {
+                    double ux = source.nextDouble();
+                    double uy = source.nextDouble();
+                    if (uy > 1.0 - ux + eps) {
+                        continue;
+                    }
+
+                    double x = xl + ux * dx;
+                    if (uy <= 1.0 - ux || yb + uy * dy <= f.applyAsDouble(x)) {
+                        return x;
+                    }
+                }
+
+            default:
+                while (true) {
+                    double x = xl + source.nextDouble() * dx;
+                    if (yb + source.nextDouble() * dy <= f.applyAsDouble(x)) {
+                        return x;
+                    }
+                }
+        }
+    }
+
+    /**
+     * Returns an upper bound of the vertical distance between the curve and the chord of the overhang {@code i}
+     * in the coordinates normalized to the bounding box of the overhang.
+     */
+    private double maxDistanceFromChord(int i) {
+        final int n = 1024;
+
+        double max = 0;
+        for (int j = 1; j < n; j++) {
+            double t = (double) j / n;
+            double y = (f.applyAsDouble(xl[i] + t * dx[i]) - yb[i]) / dy[i];
+            max = Math.max(max, Math.abs(y - (1.0 - t)));
+        }
+
+        // covers the distance between the sampled points and the rounding errors
+        return max * 1.01 + 0x1.0p-40;
+    }
+
+    private void buildAliasTable(double[] mass) {
+        double sum = 0;
+        for (double m : mass) {
+            sum += m;
+        }
+
+        double[] q = new double[N];
+        for (int i = 0; i < mass.length; i++) {
+            q[i] = mass[i] / sum * N;
+        }
+
+        int[] small = new int[N];
+        int[] large = new int[N];
+        int numSmall = 0;
+        int numLarge = 0;
+        for (int i = 0; i < N; i++) {
+            if (q[i] < 1.0) {
+                small[numSmall++] = i;
+            } else {
+                large[numLarge++] = i;
+            }
+        }
+
+        while (numSmall > 0 && numLarge > 0) {
+            int s = small[--numSmall];
+            int l = large[--numLarge];
+
+            threshold[s] = (long) (q[s] * 0x1.0p56);
+            alias[s] = l;
+
+            q[l] -= 1.0 - q[s];
+            if (q[l] < 1.0) {
+                small[numSmall++] = l;
+            } else {
+                large[numLarge++] = l;
+            }
+        }
+
+        // the remaining columns are full up to the rounding errors
+        while (numSmall > 0) {
+            int s = small[--numSmall];
+            threshold[s] = 1L << 56;
+            alias[s] = s;
+        }
+        while (numLarge > 0) {
+            int l = large[--numLarge];
+            threshold[l] = 1L << 56;
+            alias[l] = l;
+        }
+    }
+
+    /**
+     * Returns the {@code x} in {@code [lo, hi]} maximizing the unimodal function {@code h} by ternary search.
+     */
+    private static double argmax(DoubleUnaryOperator h, double lo, double hi) {
+        for (int i = 0; i < 200; i++) {
+            double m1 = lo + (hi - lo) / 3;
+            double m2 = hi - (hi - lo) / 3;
+            if (h.applyAsDouble(m1) < h.applyAsDouble(m2)) {
+                lo = m1;
+            } else {
+                hi = m2;
+            }
+        }
+        return (lo + hi) / 2;
+    }
+
+    /**
+     * Returns the {@code x} in {@code [lo, hi]} satisfying {@code h(x) = c} by bisection,
+     * where {@code h} is decreasing in the range.
+     */
+    private static double root(DoubleUnaryOperator h, double c, double lo, double hi) {
+        for (int i = 0; i < 200; i++) {
+            double m = (lo + hi) / 2;
+            if (h.applyAsDouble(m) > c) {
+                lo = m;
+            } else {
+                hi = m;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Integrates {@code f} over {@code [a, b]} by Simpson's rule.
+     */
+    private static double integrate(DoubleUnaryOperator f, double a, double b) {
+        final int n = 256;
+        double h = (b - a) / n;
+
+        double sum = f.applyAsDouble(a) + f.applyAsDouble(b);
+        for (int j = 1; j < n; j++) {
+            sum += (j % 2 == 0 ? 2 : 4) * f.applyAsDouble(a + j * h);
+        }
+        return sum * h / 3;
+    }
+}
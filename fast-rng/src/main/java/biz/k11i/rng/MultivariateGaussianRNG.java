@@ -0,0 +1,251 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.SplitMix64;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Multivariate gaussian random number generator {@code N(μ, Σ)}.
+ * <p>
+ * The Cholesky factor {@code L} of the covariance matrix {@code Σ = L L^T} is computed once when the object is created,
+ * and each sample is {@code x = μ + L z} with {@code z ~ N(0, I)} drawn from {@link GaussianRNG#FAST_RNG}.
+ * </p>
+ * <p>
+ * {@code L} is stored in a flat {@code double[]} of the lower triangle packed row by row.
+ * The samples are generated into a row-major array, one sample of {@link #dimension()} elements per row:
+ * {@code z} is drawn into the destination and transformed in place from the last element to the first,
+ * so that no temporary array is allocated.
+ * The rows are transformed in blocks of about {@value #BLOCK_BYTES} bytes,
+ * so that each row of {@code L} is read once per block while the block stays in the cache.
+ * Only the output is blocked, not {@code L}: {@code L} is read in whole once per block,
+ * and a block holds a single row when a row exceeds {@value #BLOCK_BYTES} bytes.
+ * Once {@code L} no longer fits in the cache, the memory bandwidth of reading it bounds the throughput.
+ * </p>
+ * <p>
+ * Objects of this class are immutable and thread-safe.
+ * </p>
+ */
+public final class MultivariateGaussianRNG {
+    /** Approximate size of the block of rows transformed together. */
+    private static final int BLOCK_BYTES = 32 * 1024;
+
+    private final int d;
+    private final double[] mean;
+    private final double[] l;
+    private final int rowsPerBlock;
+
+    private MultivariateGaussianRNG(double[] mean, double[] l) {
+        this.d = mean.length;
+        this.mean = mean;
+        this.l = l;
+        this.rowsPerBlock = Math.max(1, BLOCK_BYTES / (d * Double.BYTES));
+    }
+
+    /**
+     * Creates a multivariate gaussian random number generator.
+     * <p>
+     * Only the lower triangle of {@code covariance} is used.
+     * The arrays are copied, so that they can be modified after this method returns.
+     * </p>
+     *
+     * @param mean       mean vector
+     * @param covariance covariance matrix, which must be symmetric and positive definite
+     * @return a random number generator
+     * @throws IllegalArgumentException if {@code covariance} is not a square matrix of the dimension of {@code mean},
+     *                                  it is not positive definite,
+     *                                  or the {@code d (d + 1) / 2} elements of the Cholesky factor do not fit in an array
+     */
+    public static MultivariateGaussianRNG of(double[] mean, double[][] covariance) {
+        int d = mean.length;
+        if (d == 0) {
+            throw new IllegalArgumentException("mean must not be empty");
+        }
+        if (covariance.length != d) {
+            throw new IllegalArgumentException("covariance must be a " + d + " x " + d + " matrix");
+        }
+        for (double[] row : covariance) {
+            if (row.length != d) {
+                throw new IllegalArgumentException("covariance must be a " + d + " x " + d + " matrix");
+            }
+        }
+        if ((long) d * (d + 1) / 2 > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("the Cholesky factor of dimension " + d + " exceeds the maximum array size");
+        }
+
+        return new MultivariateGaussianRNG(mean.clone(), cholesky(covariance));
+    }
+
+    /**
+     * Computes the Cholesky factor packed row by row: {@code L[i][j]} is at {@code i (i + 1) / 2 + j}.
+     */
+    private static double[] cholesky(double[][] a) {
+        int d = a.length;
+        double[] l = new double[d * (d + 1) / 2];
+
+        for (int i = 0, rowI = 0; i < d; rowI += ++i) {
+            for (int j = 0, rowJ = 0; j <= i; rowJ += ++j) {
+                double sum = a[i][j];
+                for (int k = 0; k < j; k++) {
+                    sum -= l[rowI + k] * l[rowJ + k];
+                }
+
+                if (i == j) {
+                    if (!(sum > 0)) {
+                        throw new IllegalArgumentException("covariance must be positive definite");
+                    }
+                    l[rowI + i] = Math.sqrt(sum);
+                } else {
+                    l[rowI + j] = sum / l[rowJ + j];
+                }
+            }
+        }
+
+        return l;
+    }
+
+    /**
+     * Returns the dimension of the distribution.
+     *
+     * @return the dimension
+     */
+    public int dimension() {
+        return d;
+    }
+
+    /**
+     * Generates a random vector into {@code dst[off]}, ..., {@code dst[off + dimension() - 1]}.
+     *
+     * @param random random number generator
+     * @param dst    array to store the random vector
+     * @param off    index of the first element
+     */
+    public void generate(Random random, double[] dst, int off) {
+        generate(random, dst, off, 1);
+    }
+
+    /**
+     * Generates {@code n} random vectors into the row-major array {@code dst} from {@code dst[off]},
+     * which occupy {@code n * dimension()} elements.
+     *
+     * @param random random number generator
+     * @param dst    array to store the random vectors
+     * @param off    index of the first element
+     * @param n      number of the random vectors
+     */
+    public void generate(Random random, double[] dst, int off, int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be non-negative");
+        }
+        ArrayRanges.checkFromIndexSize(off, Math.multiplyExact(n, d), dst.length);
+
+        for (int row = 0; row < n; row += rowsPerBlock) {
+            int rows = Math.min(rowsPerBlock, n - row);
+            int blockOff = off + row * d;
+
+            GaussianRNG.FAST_RNG.fill(random, dst, blockOff, rows * d);
+            transform(dst, blockOff, rows);
+        }
+    }
+
+    /**
+     * Generates {@code n} random vectors into the row-major array {@code dst} from {@code dst[off]} in parallel.
+     * <p>
+     * The rows are partitioned into blocks of {@code max(1, ParallelFill.BLOCK_SIZE / dimension())} rows.
+     * The block {@code b} is generated using {@code new SplitMix64(seed, b)},
+     * so that the result depends only on the seed and never on the parallelism of the pool.
+     * </p>
+     *
+     * @param dst  array to store the random vectors
+     * @param off  index of the first element
+     * @param n    number of the random vectors
+     * @param seed the seed
+     * @param pool fork/join pool to run the tasks
+     */
+    public void generate(double[] dst, int off, int n, long seed, ForkJoinPool pool) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n must be non-negative");
+        }
+        ArrayRanges.checkFromIndexSize(off, Math.multiplyExact(n, d), dst.length);
+
+        int rowsPerTask = Math.max(1, ParallelFill.BLOCK_SIZE / d);
+        int numBlocks = (int) (((long) n + rowsPerTask - 1) / rowsPerTask);
+        pool.invoke(new GenerateAction(dst, off, n, rowsPerTask, seed, 0, numBlocks));
+    }
+
+    /**
+     * Transforms {@code z} of {@code rows} rows from {@code dst[off]} into {@code μ + L z} in place.
+     */
+    private void transform(double[] dst, int off, int rows) {
+        final int d = this.d;
+        final double[] l = this.l;
+        final double[] mean = this.mean;
+
+        // x_i depends on z_0, ..., z_i, so that x_i can overwrite z_i when i runs from the last to the first
+        for (int i = d - 1, rowI = (int) ((long) i * (i + 1) / 2); i >= 0; rowI -= i--) {
+            double mu = mean[i];
+
+            for (int r = 0, base = off; r < rows; r++, base += d) {
+                double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+                int j = 0;
+                for (int end = i + 1 - 3; j < end; j += 4) {
+                    s0 += l[rowI + j] * dst[base + j];
+                    s1 += l[rowI + j + 1] * dst[base + j + 1];
+                    s2 += l[rowI + j + 2] * dst[base + j + 2];
+                    s3 += l[rowI + j + 3] * dst[base + j + 3];
+                }
+                for (; j <= i; j++) {
+                    s0 += l[rowI + j] * dst[base + j];
+                }
+
+                dst[base + i] = mu + ((s0 + s1) + (s2 + s3));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MultivariateGaussianRNG(dimension = %d)", d);
+    }
+
+    private class GenerateAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] dst;
+        private final int off;
+        private final int n;
+        private final int rowsPerTask;
+        private final long seed;
+        private final int startBlock;
+        private final int endBlock;
+
+        GenerateAction(double[] dst, int off, int n, int rowsPerTask, long seed, int startBlock, int endBlock) {
+            this.dst = dst;
+            this.off = off;
+            this.n = n;
+            this.rowsPerTask = rowsPerTask;
+            this.seed = seed;
+            this.startBlock = startBlock;
+            this.endBlock = endBlock;
+        }
+
+        @Override
+        protected void compute() {
+            int numBlocks = endBlock - startBlock;
+            if (numBlocks > 1) {
+                int mid = startBlock + (numBlocks >>> 1);
+
+                GenerateAction right = new GenerateAction(dst, off, n, rowsPerTask, seed, mid, endBlock);
+                right.fork();
+                new GenerateAction(dst, off, n, rowsPerTask, seed, startBlock, mid).compute();
+                right.join();
+
+            } else if (numBlocks == 1) {
+                int row = startBlock * rowsPerTask;
+                int rows = Math.min(rowsPerTask, n - row);
+                generate(new SplitMix64(seed, startBlock), dst, off + row * d, rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.SplitMix64;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fills large arrays with random values in parallel using fork/join.
+ * <p>
+ * The array is partitioned into fixed-size blocks of {@value #BLOCK_SIZE} elements.
+ * The block {@code b} is filled using {@code new SplitMix64(seed, b)}, that is, the stream of the seed keyed by the block index,
+ * so that the result depends only on the seed and never on the parallelism of the pool or the scheduling of the tasks.
+ * </p>
+ */
+public final class ParallelFill {
+    /** Number of the elements filled with the same uniform random number generator */
+    public static final int BLOCK_SIZE = 1 << 16;
+
+    private ParallelFill() {
+    }
+
+    /**
+     * Fills the array with random values sampled from standard gaussian distribution.
+     *
+     * @param dst  array to be filled
+     * @param seed the seed
+     * @param pool fork/join pool to run the tasks
+     */
+    public static void gaussian(double[] dst, long seed, ForkJoinPool pool) {
+        fill(dst, seed, pool, GaussianRNG.FAST_RNG::fill);
+    }
+
+    /**
+     * Fills the array with random values sampled from gaussian distribution.
+     *
+     * @param dst  array to be filled
+     * @param mean mean of the distribution
+     * @param sd   standard deviation of the distribution
+     * @param seed the seed
+     * @param pool fork/join pool to run the tasks
+     */
+    public static void gaussian(double[] dst, double mean, double sd, long seed, ForkJoinPool pool) {
+        fill(dst, seed, pool, (random, d, off, len) -> GaussianRNG.FAST_RNG.fill(random, d, off, len, mean, sd));
+    }
+
+    /**
+     * Fills the array with random values sampled from exponential distribution.
+     *
+     * @param dst   array to be filled
+     * @param theta mean of the distribution
+     * @param seed  the seed
+     * @param pool  fork/join pool to run the tasks
+     */
+    public static void exponential(double[] dst, double theta, long seed, ForkJoinPool pool) {
+        fill(dst, seed, pool, (random, d, off, len) -> ExponentialRNG.FAST_RNG.fill(random, d, off, len, theta));
+    }
+
+    /**
+     * Fills the array with random values sampled from gamma distribution.
+     *
+     * @param dst   array to be filled
+     * @param shape shape parameter (alpha)
+     * @param scale scale parameter (beta)
+     * @param seed  the seed
+     * @param pool  fork/join pool to run the tasks
+     */
+    public static void gamma(double[] dst, double shape, double scale, long seed, ForkJoinPool pool) {
+        GammaSampler sampler = GammaRNG.FAST_RNG.sampler(shape, scale);
+
+        fill(dst, seed, pool, (random, d, off, len) -> {
+            for (int i = off, end = off + len; i < end; i++) {
+                d[i] = sampler.generate(random);
+            }
+        });
+    }
+
+    /**
+     * Fills the array with random values sampled from beta distribution.
+     *
+     * @param dst   array to be filled
+     * @param alpha shape parameter (alpha)
+     * @param beta  shape parameter (beta)
+     * @param seed  the seed
+     * @param pool  fork/join pool to run the tasks
+     */
+    public static void beta(double[] dst, double alpha, double beta, long seed, ForkJoinPool pool) {
+        BetaSampler sampler = BetaRNG.FAST_RNG.sampler(alpha, beta);
+
+        fill(dst, seed, pool, (random, d, off, len) -> {
+            for (int i = off, end = off + len; i < end; i++) {
+                d[i] = sampler.generate(random);
+            }
+        });
+    }
+
+    private static void fill(double[] dst, long seed, ForkJoinPool pool, BlockFiller filler) {
+        int numBlocks = (int) (((long) dst.length + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        pool.invoke(new FillAction(dst, seed, filler, 0, numBlocks));
+    }
+
+    /**
+     * Fills the specified range of the array using the uniform random number generator of the block.
+     */
+    @FunctionalInterface
+    interface BlockFiller {
+        void fill(Random random, double[] dst, int off, int len);
+    }
+
+    static class FillAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] dst;
+        private final long seed;
+        private final BlockFiller filler;
+        private final int startBlock;
+        private final int endBlock;
+
+        FillAction(double[] dst, long seed, BlockFiller filler, int startBlock, int endBlock) {
+            this.dst = dst;
+            this.seed = seed;
+            this.filler = filler;
+            this.startBlock = startBlock;
+            this.endBlock = endBlock;
+        }
+
+        @Override
+        protected void compute() {
+            int n = endBlock - startBlock;
+            if (n > 1) {
+                int mid = startBlock + (n >>> 1);
+
+                FillAction right = new FillAction(dst, seed, filler, mid, endBlock);
+                right.fork();
+                new FillAction(dst, seed, filler, startBlock, mid).compute();
+                right.join();
+
+            } else if (n == 1) {
+                int off = startBlock * BLOCK_SIZE;
+                int len = Math.min(BLOCK_SIZE, dst.length - off);
+                filler.fill(new SplitMix64(seed, startBlock), dst, off, len);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.SplitMix64;
+
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * {@link Spliterator.OfDouble} that generates random values in the same blocks as {@link ParallelFill}.
+ * <p>
+ * The element {@code i} belongs to the block {@code b = i / ParallelFill.BLOCK_SIZE}, whose elements are generated
+ * sequentially using {@code new SplitMix64(seed, b)}.
+ * The spliterator is split only at block boundaries, so that the elements never depend on how the stream is split.
+ * </p>
+ */
+class RandomSpliterator implements Spliterator.OfDouble {
+    private static final int CHARACTERISTICS = SIZED | SUBSIZED | ORDERED | IMMUTABLE | NONNULL;
+
+    private final long seed;
+    private final ToDoubleFunction<Random> generator;
+    private long index;
+    private final long fence;
+
+    /** Uniform random number generator of the current block, or {@code null} if no element of the block is generated */
+    private Random random;
+
+    private RandomSpliterator(long seed, ToDoubleFunction<Random> generator, long index, long fence, Random random) {
+        this.seed = seed;
+        this.generator = generator;
+        this.index = index;
+        this.fence = fence;
+        this.random = random;
+    }
+
+    /**
+     * Returns a sequential stream of random values.
+     *
+     * @param seed      the seed
+     * @param size      the number of the values
+     * @param generator generates a random value using the uniform random number generator of the block
+     * @return a stream of random values
+     */
+    static DoubleStream stream(long seed, long size, ToDoubleFunction<Random> generator) {
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be non-negative");
+        }
+        return StreamSupport.doubleStream(new RandomSpliterator(seed, generator, 0, size, null), false);
+    }
+
+    private Random random() {
+        if (index % ParallelFill.BLOCK_SIZE == 0) {
+            random = new SplitMix64(seed, index / ParallelFill.BLOCK_SIZE);
+        }
+        return random;
+    }
+
+    @Override
+    public OfDouble trySplit() {
+        long lo = index;
+        long mid = ((lo + fence) >>> 1) / ParallelFill.BLOCK_SIZE * ParallelFill.BLOCK_SIZE;
+        if (mid <= lo) {
+            return null;
+        }
+
+        // the prefix takes over the generator of the current block
+        RandomSpliterator prefix = new RandomSpliterator(seed, generator, lo, mid, random);
+        index = mid;
+        random = null;
+        return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= fence) {
+            return false;
+        }
+
+        Random random = random();
+        index++;
+        action.accept(generator.applyAsDouble(random));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        long i = index;
+        long end = fence;
+
+        while (i < end) {
+            Random random = random();
+            long blockEnd = Math.min(end, (i / ParallelFill.BLOCK_SIZE + 1) * ParallelFill.BLOCK_SIZE);
+            index = blockEnd;
+
+            for (; i < blockEnd; i++) {
+                action.accept(generator.applyAsDouble(random));
+            }
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
@@ -0,0 +1,86 @@
+package biz.k11i.rng;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random values using {@link ThreadLocalRandom} of the calling thread.
+ * <p>
+ * Each thread draws uniform random numbers from its own generator,
+ * so that the methods of this class involve neither locking nor allocation
+ * and can be called concurrently from many threads without contention.
+ * </p>
+ * <p>
+ * The random values are not reproducible, since {@link ThreadLocalRandom} cannot be seeded.
+ * Use {@link GaussianRNG}, {@link ExponentialRNG}, {@link GammaRNG} and {@link BetaRNG} with a seeded generator
+ * if reproducibility is required.
+ * </p>
+ */
+public final class ThreadLocalRNG {
+    private static final UniformSource SOURCE = UniformSource.threadLocal();
+
+    private ThreadLocalRNG() {
+    }
+
+    /**
+     * Returns a random value sampled from standard gaussian distribution.
+     *
+     * @return a random value
+     */
+    public static double gaussian() {
+        return GaussianRNG.FAST_RNG.generate(SOURCE);
+    }
+
+    /**
+     * Returns a random value sampled from gaussian distribution.
+     *
+     * @param mean mean of the distribution
+     * @param sd   standard deviation of the distribution
+     * @return a random value
+     */
+    public static double gaussian(double mean, double sd) {
+        return mean + sd * GaussianRNG.FAST_RNG.generate(SOURCE);
+    }
+
+    /**
+     * Returns a random value sampled from exponential distribution.
+     *
+     * @param theta mean of the distribution
+     * @return a random value
+     */
+    public static double exponential(double theta) {
+        return ExponentialRNG.FAST_RNG.generate(SOURCE, theta);
+    }
+
+    /**
+     * Returns a random value sampled from gamma distribution.
+     *
+     * @param shape shape parameter (alpha)
+     * @param scale scale parameter (beta)
+     * @return a random value
+     */
+    public static double gamma(double shape, double scale) {
+        return GammaRNG.FAST_RNG.generate(SOURCE, shape, scale);
+    }
+
+    /**
+     * Returns a random value sampled from beta distribution.
+     *
+     * @param alpha shape parameter (alpha)
+     * @param beta  shape parameter (beta)
+     * @return a random value
+     */
+    public static double beta(double alpha, double beta) {
+        return BetaRNG.FAST_RNG.generate(SOURCE, alpha, beta);
+    }
+
+    /**
+     * Returns a random integer sampled from discrete uniform distribution {@code unif{0, bound - 1}}.
+     *
+     * @param bound the upper bound (exclusive)
+     * @return sampled random integer between 0 (inclusive) and {@code bound} (exclusive)
+     * @see UniformRNGUtils#nextInt(UniformSource, int)
+     */
+    public static int nextInt(int bound) {
+        return UniformRNGUtils.nextInt(SOURCE, bound);
+    }
+}
@@ -0,0 +1,442 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+
+import static biz.k11i.util.MathFunctions.exp;
+
+/**
+ * Truncated gaussian random number generator.
+ * <p>
+ * The values are sampled from gaussian distribution {@code N(mean, sd^2)} conditioned on {@code [lower, upper]}.
+ * The bounds may be infinite.
+ * </p>
+ */
+public interface TruncatedGaussianRNG {
+    TruncatedGaussianRNG FAST_RNG = new TruncatedGaussianRNGImpl();
+
+    /**
+     * Generates a random value sampled from truncated gaussian distribution.
+     *
+     * @param random random number generator
+     * @param mean   mean of the untruncated distribution
+     * @param sd     standard deviation of the untruncated distribution
+     * @param lower  lower bound of the interval
+     * @param upper  upper bound of the interval
+     * @return a random value in {@code [lower, upper]}
+     * @throws IllegalArgumentException if {@code lower < upper} does not hold after the standardization
+     */
+    double generate(Random random, double mean, double sd, double lower, double upper);
+
+    /**
+     * Generates random values sampled from truncated gaussian distributions with different parameters.
+     * <p>
+     * {@code out[i]} is sampled from the distribution with parameters
+     * {@code means[i]}, {@code sds[i]}, {@code lowers[i]} and {@code uppers[i]}.
+     * </p>
+     *
+     * @param random random number generator
+     * @param means  means of the untruncated distributions
+     * @param sds    standard deviations of the untruncated distributions
+     * @param lowers lower bounds of the intervals
+     * @param uppers upper bounds of the intervals
+     * @param out    array to store the random values
+     */
+    default void generate(Random random, double[] means, double[] sds, double[] lowers, double[] uppers, double[] out) {
+        int n = means.length;
+        if (sds.length != n || lowers.length != n || uppers.length != n || out.length != n) {
+            throw new IllegalArgumentException("means, sds, lowers, uppers and out must have the same length");
+        }
+
+        for (int i = 0; i < n; i++) {
+            out[i] = generate(random, means[i], sds[i], lowers[i], uppers[i]);
+        }
+    }
+
+    /**
+     * Returns a truncated gaussian random number generator whose parameters are fixed.
+     * <p>
+     * It is faster than {@link #generate(Random, double, double, double, double)} when many values are sampled
+     * with the same parameters.
+     * </p>
+     *
+     * @param mean  mean of the untruncated distribution
+     * @param sd    standard deviation of the untruncated distribution
+     * @param lower lower bound of the interval
+     * @param upper upper bound of the interval
+     * @return a random number generator
+     */
+    default TruncatedGaussianSampler sampler(double mean, double sd, double lower, double upper) {
+        TruncatedGaussianRNGAlgorithms.standardize(mean, sd, lower, upper);
+        return new TruncatedGaussianRNGAlgorithms.FixedParameters(this, mean, sd, lower, upper) {
+            @Override
+            public double generate(Random random) {
+                return owner.generate(random, mean, sd, lower, upper);
+            }
+        };
+    }
+
+    /**
+     * Implementation of truncated gaussian random number generator that selects an algorithm by the interval.
+     * <p>
+     * Let {@code [a, b]} be the interval standardized by {@code mean} and {@code sd}.
+     * </p>
+     * <ul>
+     * <li>Uniform rejection: when {@code (b - a) * max(|a|, |b|) < 0.5},
+     * where the density hardly varies over the interval.</li>
+     * <li>Exponential rejection by {@link GaussianRNG#tail(Random, double)}: when {@code a >= 3} (or {@code b <= -3}).
+     * Uniform rejection is used instead if {@code a (b - a) < 1}, where it accepts more.</li>
+     * <li>Rejection from {@link GaussianRNG#FAST_RNG}: when the interval covers at least a third of the strips
+     * of the table below.</li>
+     * <li>Chopin's table method: otherwise.
+     * Each of {@code (-∞, -3)} and {@code (3, ∞)} makes a strip, and {@code [-3, 3]} is divided into vertical strips
+     * whose bounding boxes have the same area as the tail beyond 3:
+     * from 3 inward, the inner edge of each strip is found by bisection so that
+     * its width times the density at the inner edge equals that area,
+     * and the strip around 0 takes the rest.
+     * A strip overlapping the interval is chosen uniformly and a point in its box is accepted
+     * if it is under the curve and in the interval;
+     * {@code exp} is evaluated only for the points above the box under the curve, whose height is the density at the outer edge.
+     * Most of the points fall in that box, since the strips are narrow.
+     * <p>
+     * Chopin, Nicolas.
+     * <i>"Fast simulation of truncated Gaussian distributions."</i>
+     * Statistics and Computing 21.2 (2011): 275-288.
+     * </p>
+     * </li>
+     * </ul>
+     * <p>
+     * Robert, Christian P.
+     * <i>"Simulation of truncated normal variables."</i>
+     * Statistics and computing 5.2 (1995): 121-125.
+     * </p>
+     */
+    class TruncatedGaussianRNGImpl implements TruncatedGaussianRNG {
+        @Override
+        public double generate(Random random, double mean, double sd, double lower, double upper) {
+            double a = (lower - mean) / sd;
+            double b = (upper - mean) / sd;
+            if (!(a < b)) {
+                throw new IllegalArgumentException("lower must be less than upper");
+            }
+
+            double z = TruncatedGaussianRNGAlgorithms.generate(random, a, b);
+            return TruncatedGaussianRNGAlgorithms.clamp(mean + sd * z, lower, upper);
+        }
+
+        @Override
+        public TruncatedGaussianSampler sampler(double mean, double sd, double lower, double upper) {
+            return TruncatedGaussianRNGAlgorithms.sampler(this, mean, sd, lower, upper);
+        }
+
+        @Override
+        public String toString() {
+            return "TruncatedGaussianRNGImpl";
+        }
+    }
+}
+
+class TruncatedGaussianRNGAlgorithms {
+    /** Bound of the table; the tails beyond it are the outermost strips. */
+    static final double X_MAX = 3.0;
+
+    /** {@code ∫_{X_MAX}^∞ e^{-x^2 / 2} dx = sqrt(π / 2) erfc(X_MAX / sqrt(2))}, which is the area of each strip. */
+    private static final double STRIP_AREA = 0.00338369257395273;
+
+    /** Threshold of {@code (b - a) * max(|a|, |b|)} below which uniform rejection is used. */
+    private static final double NARROW = 0.5;
+
+    private static final double[] LEFT;
+    private static final double[] WIDTH;
+    private static final double[] HEIGHT;
+    private static final double[] INNER_HEIGHT;
+    private static final int NUM_STRIPS;
+
+    /** Number of the cells of the grid over {@code [-X_MAX, X_MAX)} to look up the strips. */
+    private static final int GRID_SIZE = 1024;
+    private static final double GRID_SCALE = GRID_SIZE / (2 * X_MAX);
+    /** {@code GRID[g]} is the strip containing the left end of the cell {@code g}. */
+    private static final int[] GRID;
+
+    static {
+        // strips on the right half from X_MAX inward: (x_{j+1}, x_j] of height f(x_{j+1})
+        double[] x = new double[1024];
+        int n = 0;
+        x[n++] = X_MAX;
+        while (x[n - 1] >= STRIP_AREA) {
+            double right = x[n - 1];
+            double lo = 0;
+            double hi = right;
+            for (int i = 0; i < 200; i++) {
+                double m = (lo + hi) / 2;
+                if ((right - m) * f(m) > STRIP_AREA) {
+                    lo = m;
+                } else {
+                    hi = m;
+                }
+            }
+            x[n++] = hi;
+        }
+
+        // [0, x_{n-1}] is narrower than STRIP_AREA, so that a box of height STRIP_AREA / x_{n-1} > 1 covers the curve
+        NUM_STRIPS = 2 * n + 2;
+        LEFT = new double[NUM_STRIPS];
+        WIDTH = new double[NUM_STRIPS];
+        HEIGHT = new double[NUM_STRIPS];
+        INNER_HEIGHT = new double[NUM_STRIPS];
+
+        int center = NUM_STRIPS / 2;
+        for (int j = 0; j < n; j++) {
+            double inner = j == n - 1 ? 0 : x[j + 1];
+            double outer = x[j];
+
+            // right half: center + (n - 1 - j), left half mirrored
+            int r = center + (n - 1 - j);
+            int l = center - 1 - (n - 1 - j);
+
+            LEFT[r] = inner;
+            LEFT[l] = -outer;
+            WIDTH[r] = WIDTH[l] = outer - inner;
+            HEIGHT[r] = HEIGHT[l] = STRIP_AREA / (outer - inner);
+            INNER_HEIGHT[r] = INNER_HEIGHT[l] = f(outer);
+        }
+
+        LEFT[0] = Double.NEGATIVE_INFINITY;
+        LEFT[NUM_STRIPS - 1] = X_MAX;
+
+        GRID = new int[GRID_SIZE];
+        for (int g = 0, k = 0; g < GRID_SIZE; g++) {
+            double cellLeft = -X_MAX + g / GRID_SCALE;
+            while (LEFT[k + 1] <= cellLeft) {
+                k++;
+            }
+            GRID[g] = k;
+        }
+    }
+
+    private static double f(double x) {
+        return GaussianRNG.ZigguratBase.f(x);
+    }
+
+    /**
+     * Validates the parameters and returns the standardized interval {@code {a, b}}.
+     */
+    static double[] standardize(double mean, double sd, double lower, double upper) {
+        double a = (lower - mean) / sd;
+        double b = (upper - mean) / sd;
+        if (!(a < b)) {
+            throw new IllegalArgumentException("lower must be less than upper");
+        }
+        return new double[]{a, b};
+    }
+
+    /**
+     * Cancels the rounding error of {@code mean + sd * z} that would leak the value out of the interval.
+     */
+    static double clamp(double x, double lower, double upper) {
+        return x < lower ? lower : x > upper ? upper : x;
+    }
+
+    /**
+     * Returns the index of the strip containing {@code x}.
+     */
+    static int strip(double x) {
+        if (x < -X_MAX) {
+            return 0;
+        }
+        if (x >= X_MAX) {
+            return NUM_STRIPS - 1;
+        }
+
+        // the strips are at least as wide as STRIP_AREA, so that a cell overlaps only a few strips
+        int k = GRID[Math.min((int) ((x + X_MAX) * GRID_SCALE), GRID_SIZE - 1)];
+        while (LEFT[k] > x) {
+            // x is rounded into the next cell
+            k--;
+        }
+        while (LEFT[k + 1] <= x) {
+            k++;
+        }
+        return k;
+    }
+
+    static boolean isNarrow(double a, double b) {
+        return (b - a) * Math.max(Math.abs(a), Math.abs(b)) < NARROW;
+    }
+
+    static boolean isWide(int ka, int kb) {
+        return 3 * (kb - ka + 1) >= NUM_STRIPS;
+    }
+
+    /**
+     * Generates a random value sampled from standard gaussian distribution truncated to {@code [a, b]}.
+     */
+    static double generate(Random random, double a, double b) {
+        if (a >= X_MAX) {
+            return tail(random, a, b);
+        }
+        if (b <= -X_MAX) {
+            return -tail(random, -b, -a);
+        }
+        if (isNarrow(a, b)) {
+            return uniform(random, a, b);
+        }
+
+        int ka = strip(a);
+        int kb = strip(b);
+        return isWide(ka, kb) ? normal(random, a, b) : table(random, a, b, ka, kb);
+    }
+
+    static TruncatedGaussianSampler sampler(TruncatedGaussianRNG owner, double mean, double sd, double lower, double upper) {
+        double[] ab = standardize(mean, sd, lower, upper);
+        final double a = ab[0];
+        final double b = ab[1];
+
+        if (a >= X_MAX || b <= -X_MAX) {
+            final boolean mirrored = b <= -X_MAX;
+            final double lo = mirrored ? -b : a;
+            final double hi = mirrored ? -a : b;
+            final double sign = mirrored ? -1 : 1;
+
+            return new FixedParameters(owner, mean, sd, lower, upper) {
+                @Override
+                public double generate(Random random) {
+                    return clamp(mean + sd * sign * tail(random, lo, hi), lower, upper);
+                }
+            };
+        }
+
+        if (isNarrow(a, b)) {
+            return new FixedParameters(owner, mean, sd, lower, upper) {
+                @Override
+                public double generate(Random random) {
+                    return clamp(mean + sd * uniform(random, a, b), lower, upper);
+                }
+            };
+        }
+
+        final int ka = strip(a);
+        final int kb = strip(b);
+        if (isWide(ka, kb)) {
+            return new FixedParameters(owner, mean, sd, lower, upper) {
+                @Override
+                public double generate(Random random) {
+                    return clamp(mean + sd * normal(random, a, b), lower, upper);
+                }
+            };
+        }
+
+        return new FixedParameters(owner, mean, sd, lower, upper) {
+            @Override
+            public double generate(Random random) {
+                return clamp(mean + sd * table(random, a, b, ka, kb), lower, upper);
+            }
+        };
+    }
+
+    /**
+     * Samples from {@code [a, b]} with {@code a >= X_MAX}.
+     */
+    static double tail(Random random, double a, double b) {
+        if (a * (b - a) < 1.0) {
+            return uniform(random, a, b);
+        }
+
+        while (true) {
+            double z = GaussianRNG.tail(random, a);
+            if (z <= b) {
+                return z;
+            }
+        }
+    }
+
+    /**
+     * Samples from {@code [a, b]} by rejection from the uniform distribution.
+     */
+    static double uniform(Random random, double a, double b) {
+        // the point nearest to 0, where the density is the maximum in the interval
+        double m = a > 0 ? a : b < 0 ? b : 0;
+        double width = b - a;
+
+        while (true) {
+            double z = a + random.nextDouble() * width;
+            if (random.nextDouble() <= exp(0.5 * (m - z) * (m + z))) {
+                return z;
+            }
+        }
+    }
+
+    /**
+     * Samples from {@code [a, b]} by rejection from the standard gaussian distribution.
+     */
+    static double normal(Random random, double a, double b) {
+        while (true) {
+            double z = GaussianRNG.FAST_RNG.generate(random);
+            if (a <= z && z <= b) {
+                return z;
+            }
+        }
+    }
+
+    /**
+     * Samples from {@code [a, b]} by Chopin's table method, where the strips {@code ka} to {@code kb} overlap the interval.
+     */
+    static double table(Random random, double a, double b, int ka, int kb) {
+        final int n = kb - ka + 1;
+        final int last = NUM_STRIPS - 1;
+
+        while (true) {
+            int k = ka + UniformRNGUtils.nextInt(random, n);
+
+            double z;
+            if (k == 0) {
+                z = -GaussianRNG.tail(random, X_MAX);
+            } else if (k == last) {
+                z = GaussianRNG.tail(random, X_MAX);
+            } else {
+                z = LEFT[k] + random.nextDouble() * WIDTH[k];
+                if (z < a || z > b) {
+                    continue;
+                }
+
+                double y = random.nextDouble() * HEIGHT[k];
+                if (y < INNER_HEIGHT[k] || y <= f(z)) {
+                    return z;
+                }
+                continue;
+            }
+
+            if (a <= z && z <= b) {
+                return z;
+            }
+        }
+    }
+
+    abstract static class FixedParameters implements TruncatedGaussianSampler {
+        final TruncatedGaussianRNG owner;
+        final double mean;
+        final double sd;
+        final double lower;
+        final double upper;
+
+        FixedParameters(TruncatedGaussianRNG owner, double mean, double sd, double lower, double upper) {
+            this.owner = owner;
+            this.mean = mean;
+            this.sd = sd;
+            this.lower = lower;
+            this.upper = upper;
+        }
+
+        @Override
+        public TruncatedGaussianSampler withParameters(double mean, double sd, double lower, double upper) {
+            if (mean == this.mean && sd == this.sd && lower == this.lower && upper == this.upper) {
+                return this;
+            }
+            return owner.sampler(mean, sd, lower, upper);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s(mean = %f, sd = %f, lower = %f, upper = %f)", owner, mean, sd, lower, upper);
+        }
+    }
+}
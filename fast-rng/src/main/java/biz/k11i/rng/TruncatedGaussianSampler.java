@@ -0,0 +1,32 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+
+/**
+ * Truncated gaussian random number generator whose parameters are fixed.
+ * <p>
+ * Objects of this interface are immutable; algorithm selection and the constants that depend only on
+ * the parameters are resolved when they are created by {@link TruncatedGaussianRNG#sampler(double, double, double, double)}.
+ * </p>
+ */
+public interface TruncatedGaussianSampler {
+    /**
+     * Generates a random value sampled from truncated gaussian distribution.
+     *
+     * @param random random number generator
+     * @return a random value
+     */
+    double generate(Random random);
+
+    /**
+     * Returns a truncated gaussian random number generator with another parameters,
+     * which is generated by the same {@link TruncatedGaussianRNG} as this object.
+     *
+     * @param mean  mean of the untruncated distribution
+     * @param sd    standard deviation of the untruncated distribution
+     * @param lower lower bound of the interval
+     * @param upper upper bound of the interval
+     * @return a random number generator
+     */
+    TruncatedGaussianSampler withParameters(double mean, double sd, double lower, double upper);
+}
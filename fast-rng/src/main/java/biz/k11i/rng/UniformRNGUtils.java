@@ -1,5 +1,8 @@
 package biz.k11i.rng;
 
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
 import java.util.Random;
 import java.util.SplittableRandom;
 
@@ -76,4 +79,128 @@ public class UniformRNGUtils {
 
         return (int) (m >>> 32);
     }
+
+    /**
+     * Returns a random integer sampled from discrete uniform distribution {@code unif{0, bound - 1}}.
+     *
+     * <p>
+     * This implementation uses "nearly divisionless" algorithm by Lemire.
+     * </p>
+     * <p>
+     * Lemire, Daniel.
+     * <i>"Fast random integer generation in an interval."</i>
+     * ACM Transactions on Modeling and Computer Simulation (TOMACS) 29.1 (2019): 3.
+     * </p>
+     *
+     * @param source source of uniform random numbers ({@link UniformSource} object)
+     * @param bound  the upper bound (exclusive)
+     * @return sampled random integer between 0 (inclusive) and {@code bound} (exclusive)
+     */
+    public static int nextInt(UniformSource source, int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+
+        long x = source.nextLong() >>> 32;
+        long m = x * bound;
+        long l = m & 0xffff_ffffL;
+
+        if (l < bound) {
+            for (long t = 0x1_0000_0000L % bound; l < t; ) {
+                x = source.nextLong() >>> 32;
+                m = x * bound;
+                l = m & 0xffff_ffffL;
+            }
+        }
+
+        return (int) (m >>> 32);
+    }
+
+    /**
+     * Fills the remaining elements of the buffer with random 64-bit values returned from {@link Random#nextLong()}.
+     * <p>
+     * The position of the buffer is advanced to its limit.
+     * </p>
+     *
+     * @param random random number generator
+     * @param dst    buffer to be filled
+     */
+    public static void fill(Random random, LongBuffer dst) {
+        for (int j = dst.position(), end = dst.limit(); j < end; j++) {
+            dst.put(j, random.nextLong());
+        }
+        dst.position(dst.limit());
+    }
+
+    /**
+     * Fills the remaining bytes of the buffer with random bits returned from {@link Random#nextLong()}.
+     * <p>
+     * Each 8 bytes hold a value in the byte order of the buffer, as {@link #fill(Random, LongBuffer)} does
+     * for {@code dst.asLongBuffer()};
+     * the last {@code remaining() % 8} bytes are the lowest bytes of one more value, from the lowest.
+     * The position of the buffer is advanced to its limit.
+     * </p>
+     *
+     * @param random random number generator
+     * @param dst    buffer to be filled
+     */
+    public static void fill(Random random, ByteBuffer dst) {
+        int j = dst.position();
+        int end = dst.limit();
+        for (int longEnd = end - (Long.BYTES - 1); j < longEnd; j += Long.BYTES) {
+            dst.putLong(j, random.nextLong());
+        }
+
+        if (j < end) {
+            long bits = random.nextLong();
+            for (; j < end; j++, bits >>>= 8) {
+                dst.put(j, (byte) bits);
+            }
+        }
+        dst.position(end);
+    }
+
+    /**
+     * Fills the remaining elements of the buffer with random values returned from {@link Random#nextDouble()},
+     * which are uniformly distributed in {@code [0, 1)}.
+     * <p>
+     * The position of the buffer is advanced to its limit.
+     * </p>
+     *
+     * @param random random number generator
+     * @param dst    buffer to be filled
+     */
+    public static void fill(Random random, DoubleBuffer dst) {
+        for (int j = dst.position(), end = dst.limit(); j < end; j++) {
+            dst.put(j, random.nextDouble());
+        }
+        dst.position(dst.limit());
+    }
+
+    /**
+     * Fills the specified range of the array with random values uniformly distributed in {@code [0, 1)}.
+     * <p>
+     * Each value has 24 random bits, which are as many as the significand bits of {@code float},
+     * and two values are drawn from each {@link Random#nextLong()}.
+     * </p>
+     *
+     * @param random random number generator
+     * @param dst    array to be filled
+     * @param off    index of the first element to be filled
+     * @param len    number of the elements to be filled
+     */
+    public static void fill(Random random, float[] dst, int off, int len) {
+        ArrayRanges.checkFromIndexSize(off, len, dst.length);
+
+        int j = off;
+        for (int end = off + len - 1; j < end; j += 2) {
+            long bits = random.nextLong();
+            dst[j] = (bits >>> 40) * 0x1.0p-24f;
+            dst[j + 1] = ((int) bits >>> 8) * 0x1.0p-24f;
+        }
+
+        if (j < off + len) {
+            dst[j] = (random.nextLong() >>> 40) * 0x1.0p-24f;
+        }
+    }
 }
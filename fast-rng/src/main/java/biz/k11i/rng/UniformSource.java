@@ -0,0 +1,71 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Minimal source of uniform random numbers.
+ * <p>
+ * Unlike {@link Random}, it has neither seed handling nor the {@code next(int)} plumbing,
+ * so that a call site that only ever sees one implementation can be inlined completely.
+ * </p>
+ */
+public interface UniformSource {
+    /**
+     * Returns a uniformly distributed 64-bit value.
+     *
+     * @return a random value
+     */
+    long nextLong();
+
+    /**
+     * Returns a uniformly distributed 32-bit value.
+     *
+     * @return a random value
+     */
+    default int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    /**
+     * Returns a random value uniformly distributed in {@code [0, 1)}.
+     *
+     * @return a random value
+     */
+    default double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Returns {@link UniformSource} that draws random values from {@link Random} object.
+     *
+     * @param random random number generator
+     * @return a uniform source
+     */
+    static UniformSource of(Random random) {
+        return UniformSources.of(random);
+    }
+
+    /**
+     * Returns {@link UniformSource} that draws random values from {@link SplittableRandom} object.
+     *
+     * @param random random number generator
+     * @return a uniform source
+     */
+    static UniformSource of(SplittableRandom random) {
+        return new UniformSources.SplittableRandomSource(random);
+    }
+
+    /**
+     * Returns {@link UniformSource} that draws random values from {@link ThreadLocalRandom} of the calling thread.
+     * <p>
+     * The returned object can be shared among threads.
+     * </p>
+     *
+     * @return a uniform source
+     */
+    static UniformSource threadLocal() {
+        return UniformSources.ThreadLocalRandomSource.INSTANCE;
+    }
+}
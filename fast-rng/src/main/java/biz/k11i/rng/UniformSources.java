@@ -0,0 +1,153 @@
+package biz.k11i.rng;
+
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adapters between {@link UniformSource} and the uniform random number generators of the JDK.
+ */
+@SuppressWarnings("Duplicates")
+final class UniformSources {
+    private UniformSources() {
+    }
+
+    static final class RandomSource implements UniformSource {
+        private final Random random;
+
+        RandomSource(Random random) {
+            this.random = random;
+        }
+
+        @Override
+        public long nextLong() {
+            return random.nextLong();
+        }
+
+        @Override
+        public int nextInt() {
+            return random.nextInt();
+        }
+
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+    }
+
+    static final class SplittableRandomSource implements UniformSource {
+        private final SplittableRandom random;
+
+        SplittableRandomSource(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        public long nextLong() {
+            return random.nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return random.nextDouble();
+        }
+    }
+
+    static final class ThreadLocalRandomSource implements UniformSource {
+        static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+        private ThreadLocalRandomSource() {
+        }
+
+        @Override
+        public long nextLong() {
+            return ThreadLocalRandom.current().nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return ThreadLocalRandom.current().nextDouble();
+        }
+    }
+
+    /**
+     * Returns {@link UniformSource} that draws random values from {@code random}.
+     * <p>
+     * {@link ThreadLocalRandom} is replaced with {@link ThreadLocalRandomSource#INSTANCE} without allocation.
+     * The other objects are wrapped by {@link RandomSource}, which has no state but the reference,
+     * unlike {@link SourceRandom} that allocates the seed of {@link Random}.
+     * </p>
+     */
+    static UniformSource of(Random random) {
+        if (random instanceof ThreadLocalRandom) {
+            return ThreadLocalRandomSource.INSTANCE;
+        }
+        return new RandomSource(random);
+    }
+
+    /**
+     * Adapts {@link UniformSource} to {@link Random}
+     * for the implementations of the interfaces that do not override the methods taking {@link UniformSource}.
+     * <p>
+     * The algorithms of this library draw random values from {@link UniformSource} directly
+     * and do not use this class.
+     * </p>
+     */
+    static final class SourceRandom extends Random {
+        private static final long serialVersionUID = 1L;
+
+        private final transient UniformSource source;
+
+        SourceRandom(UniformSource source) {
+            super(0);
+            this.source = source;
+        }
+
+        /**
+         * Does nothing, so that the constructor of {@link Random} does not acquire the lock.
+         */
+        @Override
+        public void setSeed(long seed) {
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (source.nextLong() >>> (64 - bits));
+        }
+
+        @Override
+        public int nextInt() {
+            return source.nextInt();
+        }
+
+        @Override
+        public long nextLong() {
+            return source.nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return source.nextDouble();
+        }
+    }
+
+    /**
+     * Returns {@link Random} that draws random values from {@code source}.
+     * <p>
+     * The sources that are {@link Random} objects or that are created by {@link UniformSource#of(Random)}
+     * and {@link UniformSource#threadLocal()} are unwrapped without allocation; the others are wrapped by {@link SourceRandom}.
+     * </p>
+     */
+    static Random asRandom(UniformSource source) {
+        if (source instanceof Random) {
+            return (Random) source;
+        }
+        if (source instanceof RandomSource) {
+            return ((RandomSource) source).random;
+        }
+        if (source instanceof ThreadLocalRandomSource) {
+            return ThreadLocalRandom.current();
+        }
+        return new SourceRandom(source);
+    }
+}
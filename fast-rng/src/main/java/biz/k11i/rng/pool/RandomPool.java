@@ -0,0 +1,421 @@
+package biz.k11i.rng.pool;
+
+import biz.k11i.rng.ExponentialRNG;
+import biz.k11i.rng.GaussianRNG;
+import biz.k11i.rng.UniformRNGUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Pool of pre-generated random values stored in a binary file, which is read through memory mapping.
+ * <p>
+ * The file consists of a header and the 8-byte values in little-endian byte order.
+ * The header records the distribution, its parameters, the seed and the uniform random number generator,
+ * so that the run that produced the values can be identified.
+ * The header fields are written with {@link DataOutputStream} and the header is padded to a multiple of 8 bytes.
+ * </p>
+ * <p>
+ * The values are read without copying from the file mapped into memory.
+ * The mapped memory is released when this object is garbage collected, not when it is closed.
+ * </p>
+ */
+public final class RandomPool implements Closeable {
+    private static final byte[] MAGIC = {'F', 'R', 'N', 'G', 'P', 'O', 'O', 'L'};
+    private static final int VERSION = 1;
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final int SEGMENT_SIZE = 1 << 30;
+
+    /**
+     * Describes how the values in the pool were generated.
+     */
+    public static final class Header {
+        private final String distribution;
+        private final double[] parameters;
+        private final long seed;
+        private final String engine;
+
+        /**
+         * Constructs {@link Header}.
+         *
+         * @param distribution name of the distribution (e.g. {@code "gaussian"})
+         * @param parameters   parameters of the distribution
+         * @param seed         seed of the uniform random number generator
+         * @param engine       name of the uniform random number generator
+         */
+        public Header(String distribution, double[] parameters, long seed, String engine) {
+            this.distribution = distribution;
+            this.parameters = parameters.clone();
+            this.seed = seed;
+            this.engine = engine;
+        }
+
+        public String getDistribution() {
+            return distribution;
+        }
+
+        public double[] getParameters() {
+            return parameters.clone();
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public String getEngine() {
+            return engine;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s%s (seed = %d, engine = %s)",
+                    distribution, Arrays.toString(parameters), seed, engine);
+        }
+    }
+
+    /**
+     * Fills a buffer with random values to be written to the pool.
+     */
+    @FunctionalInterface
+    public interface Filler {
+        /**
+         * Fills all the remaining bytes of the buffer with 8-byte values and advances the position to the limit.
+         *
+         * @param dst little-endian buffer to be filled
+         */
+        void fill(ByteBuffer dst);
+    }
+
+    private final FileChannel channel;
+    private final Header header;
+    private final long size;
+    private final int segmentShift;
+    private final ByteBuffer[] segments;
+
+    private RandomPool(FileChannel channel, Header header, long size, long dataOffset, int segmentSize) throws IOException {
+        this.channel = channel;
+        this.header = header;
+        this.size = size;
+        this.segmentShift = Integer.numberOfTrailingZeros(segmentSize / Long.BYTES);
+
+        long valuesPerSegment = segmentSize / Long.BYTES;
+        segments = new ByteBuffer[(int) ((size + valuesPerSegment - 1) / valuesPerSegment)];
+        for (int i = 0; i < segments.length; i++) {
+            long first = i * valuesPerSegment;
+            long length = Math.min(valuesPerSegment, size - first) * Long.BYTES;
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + first * Long.BYTES, length)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    /**
+     * Returns a filler that generates random values sampled from gaussian distribution.
+     *
+     * @param rng    gaussian random number generator
+     * @param random uniform random number generator
+     * @param mean   mean of the distribution
+     * @param sd     standard deviation of the distribution
+     * @return a filler
+     */
+    public static Filler gaussian(GaussianRNG rng, Random random, double mean, double sd) {
+        return dst -> rng.fill(random, dst, mean, sd);
+    }
+
+    /**
+     * Returns a filler that generates random values sampled from exponential distribution.
+     *
+     * @param rng    exponential random number generator
+     * @param random uniform random number generator
+     * @param theta  mean of the distribution
+     * @return a filler
+     */
+    public static Filler exponential(ExponentialRNG rng, Random random, double theta) {
+        return dst -> rng.fill(random, dst, theta);
+    }
+
+    /**
+     * Returns a filler that stores the 64-bit values returned from {@link Random#nextLong()}.
+     * <p>
+     * The pool of these values can be replayed through {@link #asRandom()}.
+     * </p>
+     *
+     * @param random uniform random number generator
+     * @return a filler
+     */
+    public static Filler uniform(Random random) {
+        return dst -> {
+            LongBuffer buffer = dst.asLongBuffer();
+            UniformRNGUtils.fill(random, buffer);
+            dst.position(dst.position() + buffer.position() * Long.BYTES);
+        };
+    }
+
+    /**
+     * Writes a pool of random values to the file.
+     *
+     * @param path   path of the file to be written
+     * @param header description of the random values
+     * @param count  number of the random values
+     * @param filler generates the random values
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(Path path, Header header, long count, Filler filler) throws IOException {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must be non-negative");
+        }
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+            writeFully(channel, encodeHeader(header, count));
+
+            ByteBuffer chunk = ByteBuffer.allocateDirect(CHUNK_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            for (long remaining = count; remaining > 0; ) {
+                int n = (int) Math.min(remaining, CHUNK_SIZE / Long.BYTES);
+
+                chunk.clear();
+                chunk.limit(n * Long.BYTES);
+                filler.fill(chunk);
+                if (chunk.hasRemaining()) {
+                    throw new IllegalStateException("filler must fill all the remaining bytes of the buffer");
+                }
+
+                chunk.flip();
+                writeFully(channel, chunk);
+                remaining -= n;
+            }
+        }
+    }
+
+    /**
+     * Opens the pool stored in the file.
+     *
+     * @param path path of the file
+     * @return the pool
+     * @throws IOException if an I/O error occurs or the file is not a pool
+     */
+    public static RandomPool open(Path path) throws IOException {
+        return open(path, SEGMENT_SIZE);
+    }
+
+    static RandomPool open(Path path, int segmentSize) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer prefix = ByteBuffer.allocate(16);
+            readFully(channel, prefix, 0);
+
+            byte[] magic = new byte[MAGIC.length];
+            prefix.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IOException("not a random pool file: " + path);
+            }
+            int version = prefix.getInt();
+            if (version != VERSION) {
+                throw new IOException("unsupported version: " + version);
+            }
+            int headerLength = prefix.getInt();
+
+            ByteBuffer headerBytes = ByteBuffer.allocate(headerLength);
+            readFully(channel, headerBytes, 0);
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(headerBytes.array(), 16, headerLength - 16));
+            long count = in.readLong();
+            long seed = in.readLong();
+            String distribution = in.readUTF();
+            String engine = in.readUTF();
+            double[] parameters = new double[in.readInt()];
+            for (int i = 0; i < parameters.length; i++) {
+                parameters[i] = in.readDouble();
+            }
+
+            if (channel.size() < headerLength + count * Long.BYTES) {
+                throw new IOException("the file is truncated: " + path);
+            }
+
+            return new RandomPool(channel, new Header(distribution, parameters, seed, engine), count, headerLength, segmentSize);
+
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static ByteBuffer encodeHeader(Header header, long count) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.write(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(0); // header length, filled later
+        out.writeLong(count);
+        out.writeLong(header.seed);
+        out.writeUTF(header.distribution);
+        out.writeUTF(header.engine);
+        out.writeInt(header.parameters.length);
+        for (double p : header.parameters) {
+            out.writeDouble(p);
+        }
+        while (out.size() % Long.BYTES != 0) {
+            out.writeByte(0);
+        }
+        out.flush();
+
+        ByteBuffer result = ByteBuffer.wrap(bytes.toByteArray());
+        result.putInt(MAGIC.length + Integer.BYTES, result.remaining());
+        return result;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer src) throws IOException {
+        while (src.hasRemaining()) {
+            channel.write(src);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer dst, long position) throws IOException {
+        while (dst.hasRemaining()) {
+            if (channel.read(dst, position + dst.position()) < 0) {
+                throw new IOException("unexpected end of file");
+            }
+        }
+        dst.flip();
+    }
+
+    /**
+     * Returns the description of the random values.
+     *
+     * @return the header
+     */
+    public Header header() {
+        return header;
+    }
+
+    /**
+     * Returns the number of the random values.
+     *
+     * @return the number of the random values
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns the random value at the index as {@code double}.
+     *
+     * @param index index of the value
+     * @return the random value
+     */
+    public double getDouble(long index) {
+        return Double.longBitsToDouble(getLong(index));
+    }
+
+    /**
+     * Returns the random value at the index as {@code long}.
+     *
+     * @param index index of the value
+     * @return the random value
+     */
+    public long getLong(long index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for length " + size);
+        }
+
+        int offset = (int) (index & ((1L << segmentShift) - 1)) * Long.BYTES;
+        return segments[(int) (index >>> segmentShift)].getLong(offset);
+    }
+
+    /**
+     * Returns a supplier that reads the values as {@code double} from the beginning of the pool.
+     * <p>
+     * The supplier throws {@link NoSuchElementException} when the pool is exhausted.
+     * </p>
+     *
+     * @return a supplier
+     */
+    public DoubleSupplier doubles() {
+        return new DoubleSupplier() {
+            private long index;
+
+            @Override
+            public double getAsDouble() {
+                if (index >= size) {
+                    throw new NoSuchElementException("the pool is exhausted");
+                }
+                return getDouble(index++);
+            }
+        };
+    }
+
+    /**
+     * Returns {@link Random} whose {@link Random#nextLong()} reads the values from the beginning of the pool.
+     * <p>
+     * It replays a pool written by {@link #uniform(Random)}:
+     * the other methods are derived from {@link Random#nextLong()} in the same way as the generators of
+     * {@code biz.k11i.rng.uniform} package.
+     * The returned object throws {@link NoSuchElementException} when the pool is exhausted.
+     * </p>
+     *
+     * @return a random number generator
+     */
+    public Random asRandom() {
+        return new PoolRandom(this);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RandomPool(%s, size = %d)", header, size);
+    }
+
+    private static final class PoolRandom extends Random {
+        private static final long serialVersionUID = 1L;
+
+        private final transient RandomPool pool;
+        private long index;
+
+        PoolRandom(RandomPool pool) {
+            super(0);
+            this.pool = pool;
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (nextLong() >>> (64 - bits));
+        }
+
+        @Override
+        public int nextInt() {
+            return (int) (nextLong() >>> 32);
+        }
+
+        @Override
+        public long nextLong() {
+            if (index >= pool.size) {
+                throw new NoSuchElementException("the pool is exhausted");
+            }
+            return pool.getLong(index++);
+        }
+
+        @Override
+        public double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package biz.k11i.rng.pool;
+
+import biz.k11i.rng.ExponentialRNG;
+import biz.k11i.rng.GaussianRNG;
+import biz.k11i.rng.uniform.Pcg64Dxsm;
+import biz.k11i.rng.uniform.Philox4x64;
+import biz.k11i.rng.uniform.SplitMix64;
+import biz.k11i.rng.uniform.Xoroshiro128PlusPlus;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+
+/**
+ * Command-line tool to write and inspect {@link RandomPool} files.
+ *
+ * <pre>
+ * RandomPoolTool write FILE ENGINE SEED COUNT gaussian [MEAN SD]
+ * RandomPoolTool write FILE ENGINE SEED COUNT exponential [THETA]
+ * RandomPoolTool write FILE ENGINE SEED COUNT uniform
+ * RandomPoolTool info FILE
+ * </pre>
+ * <p>
+ * {@code ENGINE} is one of the class names of {@code biz.k11i.rng.uniform} package
+ * (e.g. {@code Xoshiro256PlusPlus}).
+ * </p>
+ */
+public final class RandomPoolTool {
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "usage: RandomPoolTool write FILE ENGINE SEED COUNT gaussian [MEAN SD]",
+            "       RandomPoolTool write FILE ENGINE SEED COUNT exponential [THETA]",
+            "       RandomPoolTool write FILE ENGINE SEED COUNT uniform",
+            "       RandomPoolTool info FILE");
+
+    private RandomPoolTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        try {
+            run(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+    }
+
+    static void run(String[] args) throws IOException {
+        if (args.length == 2 && args[0].equals("info")) {
+            try (RandomPool pool = RandomPool.open(Paths.get(args[1]))) {
+                System.out.println(pool);
+            }
+
+        } else if (args.length >= 6 && args[0].equals("write")) {
+            Path path = Paths.get(args[1]);
+            String engine = args[2];
+            long seed = Long.parseLong(args[3]);
+            long count = Long.parseLong(args[4]);
+            String distribution = args[5];
+            double[] parameters = parseParameters(args);
+
+            Random random = newEngine(engine, seed);
+            RandomPool.Filler filler;
+            switch (distribution) {
+                case "gaussian":
+                    parameters = orDefault(parameters, 0.0, 1.0);
+                    filler = RandomPool.gaussian(GaussianRNG.FAST_RNG, random, parameters[0], parameters[1]);
+                    break;
+
+                case "exponential":
+                    parameters = orDefault(parameters, 1.0);
+                    filler = RandomPool.exponential(ExponentialRNG.FAST_RNG, random, parameters[0]);
+                    break;
+
+                case "uniform":
+                    parameters = orDefault(parameters);
+                    filler = RandomPool.uniform(random);
+                    break;
+
+                default:
+                    throw new IllegalArgumentException("unknown distribution: " + distribution);
+            }
+
+            RandomPool.write(path, new RandomPool.Header(distribution, parameters, seed, engine), count, filler);
+
+        } else {
+            throw new IllegalArgumentException("invalid arguments");
+        }
+    }
+
+    private static double[] parseParameters(String[] args) {
+        double[] parameters = new double[args.length - 6];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = Double.parseDouble(args[6 + i]);
+        }
+        return parameters;
+    }
+
+    private static double[] orDefault(double[] parameters, double... defaults) {
+        if (parameters.length == 0) {
+            return defaults;
+        }
+        if (parameters.length != defaults.length) {
+            throw new IllegalArgumentException("the number of the parameters must be " + defaults.length);
+        }
+        return parameters;
+    }
+
+    static Random newEngine(String engine, long seed) {
+        switch (engine) {
+            case "Xoshiro256PlusPlus":
+                return new Xoshiro256PlusPlus(seed);
+            case "Xoroshiro128PlusPlus":
+                return new Xoroshiro128PlusPlus(seed);
+            case "Pcg64Dxsm":
+                return new Pcg64Dxsm(seed);
+            case "SplitMix64":
+                return new SplitMix64(seed);
+            case "Philox4x64":
+                return new Philox4x64(seed);
+            default:
+                throw new IllegalArgumentException("unknown engine: " + engine);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package biz.k11i.rng.uniform;
+
+/**
+ * Random number generator whose state can be saved to and restored from an array of {@code long}.
+ * <p>
+ * The array has a fixed length and layout for each implementation, which is described in the documentation of
+ * {@link #saveState()} of the implementation, so that it can be written to a checkpoint without Java serialization.
+ * A generator restored from the array produces exactly the same continuation as the generator that saved it.
+ * </p>
+ * <p>
+ * The value cached by {@link java.util.Random#nextGaussian()} is not a part of the state.
+ * </p>
+ */
+public interface Checkpointable {
+    /**
+     * Returns the current state of this generator.
+     *
+     * @return a new array that holds the state
+     */
+    long[] saveState();
+
+    /**
+     * Restores the state saved by {@link #saveState()} of the same class.
+     *
+     * @param state the state
+     * @throws IllegalArgumentException if the state is not valid for this generator
+     */
+    void restoreState(long[] state);
+}
@@ -0,0 +1,15 @@
+package biz.k11i.rng.uniform;
+
+/**
+ * Helpers for the implementations of {@link Checkpointable}.
+ */
+final class Checkpoints {
+    private Checkpoints() {
+    }
+
+    static void checkLength(long[] state, int length) {
+        if (state.length != length) {
+            throw new IllegalArgumentException("state must have " + length + " elements");
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package biz.k11i.rng.uniform;
+
+import java.util.Random;
+
+/**
+ * Implementation of PCG64 DXSM pseudo random number generator.
+ * <p>
+ * O'Neill, Melissa E.
+ * <i>"PCG: A family of simple fast space-efficient statistically good algorithms for random number generation."</i>
+ * ACM Transactions on Mathematical Software (2014).
+ * </p>
+ * <p>
+ * This generator consists of a 128-bit linear congruential generator with a 64-bit multiplier
+ * and the DXSM (double xorshift multiply) output function, which is the same as NumPy's {@code PCG64DXSM}.
+ * The increment of the LCG is determined by the stream id, so generators created with the same seed and
+ * different stream ids produce different sequences without coordinating seeds.
+ * The LCG has 2^127 possible increments, of which the 64-bit stream id selects 2^64, so 2^64 streams are reachable.
+ * The period of each stream is 2^128.
+ * </p>
+ * <p>
+ * Unlike {@link Random}, this class is not thread-safe.
+ * </p>
+ */
+public class Pcg64Dxsm extends Random implements Checkpointable {
+    private static final long serialVersionUID = 1L;
+
+    private static final long CHEAP_MULTIPLIER = 0xda942042e4dd58b5L;
+
+    private long stateHi;
+    private long stateLo;
+    private long incHi;
+    private long incLo;
+    private long streamId;
+
+    /**
+     * Constructs {@link Pcg64Dxsm} with a seed that is likely to be different from any other invocation.
+     */
+    public Pcg64Dxsm() {
+        super();
+    }
+
+    /**
+     * Constructs {@link Pcg64Dxsm} with a seed. The stream id is set to 0.
+     *
+     * @param seed the initial seed
+     */
+    public Pcg64Dxsm(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructs {@link Pcg64Dxsm} with a seed and a stream id.
+     *
+     * @param seed     the initial seed
+     * @param streamId the id of the stream (treated as an unsigned 64-bit integer)
+     */
+    public Pcg64Dxsm(long seed, long streamId) {
+        super(seed);
+        this.streamId = streamId;
+        initialize(seed);
+    }
+
+    /**
+     * Sets the seed of this generator. The stream id given to the constructor is kept.
+     *
+     * @param seed the seed
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        initialize(seed);
+    }
+
+    private void initialize(long seed) {
+        incHi = streamId >>> 63;
+        incLo = (streamId << 1) | 1;
+
+        stateHi = 0;
+        stateLo = 0;
+        step();
+
+        long lo = stateLo + seed;
+        stateHi += Long.compareUnsigned(lo, stateLo) < 0 ? 1 : 0;
+        stateLo = lo;
+        step();
+    }
+
+    /**
+     * Advances the state: {@code state = state * CHEAP_MULTIPLIER + inc (mod 2^128)}.
+     */
+    private void step() {
+        long hi = stateHi * CHEAP_MULTIPLIER + unsignedMultiplyHigh(stateLo, CHEAP_MULTIPLIER);
+        long lo = stateLo * CHEAP_MULTIPLIER;
+
+        long newLo = lo + incLo;
+        stateHi = hi + incHi + (Long.compareUnsigned(newLo, lo) < 0 ? 1 : 0);
+        stateLo = newLo;
+    }
+
+    /**
+     * Returns the upper 64 bits of the unsigned 128-bit product of the arguments.
+     */
+    static long unsignedMultiplyHigh(long x, long y) {
+        long x0 = x & 0xffffffffL;
+        long x1 = x >>> 32;
+        long y0 = y & 0xffffffffL;
+        long y1 = y >>> 32;
+
+        long w0 = x0 * y0;
+        long t = x1 * y0 + (w0 >>> 32);
+        long w1 = (t & 0xffffffffL) + x0 * y1;
+
+        return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+    }
+
+    /**
+     * Returns the state of this generator as {@code {stateHi, stateLo, streamId}},
+     * where {@code stateHi} and {@code stateLo} are the upper and the lower 64 bits of the 128-bit LCG state.
+     *
+     * @return the state
+     */
+    @Override
+    public long[] saveState() {
+        return new long[]{stateHi, stateLo, streamId};
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        Checkpoints.checkLength(state, 3);
+
+        stateHi = state[0];
+        stateLo = state[1];
+        streamId = state[2];
+        incHi = streamId >>> 63;
+        incLo = (streamId << 1) | 1;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public long nextLong() {
+        // DXSM output function on the state before the step
+        long hi = stateHi;
+        long lo = stateLo | 1;
+        hi ^= hi >>> 32;
+        hi *= CHEAP_MULTIPLIER;
+        hi ^= hi >>> 48;
+        hi *= lo;
+
+        step();
+
+        return hi;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public String toString() {
+        return "Pcg64Dxsm";
+    }
+}
@@ -0,0 +1,240 @@
+package biz.k11i.rng.uniform;
+
+import java.util.Random;
+
+/**
+ * Implementation of Philox4x64-10 counter-based random number generator.
+ * <p>
+ * Salmon, John K., et al.
+ * <i>"Parallel random numbers: as easy as 1, 2, 3."</i>
+ * Proceedings of 2011 International Conference for High Performance Computing, Networking, Storage and Analysis. 2011.
+ * </p>
+ * <p>
+ * The output of a counter-based generator is a pure function of a key and a counter.
+ * {@link #at(long, long)} returns the {@code counter}-th 64-bit value of the stream identified by {@code key}
+ * without any sequential state, so that the value can be reproduced regardless of how the work is partitioned
+ * among threads or processes.
+ * </p>
+ * <p>
+ * Instances of this class adapt the stream to {@link Random}:
+ * the n-th call of {@link #nextLong()} of {@code new Philox4x64(key)} returns {@code at(key, n)}.
+ * Unlike {@link Random}, instances of this class are not thread-safe, whereas {@link #at(long, long)} is.
+ * </p>
+ */
+public class Philox4x64 extends Random implements Checkpointable {
+    private static final long serialVersionUID = 1L;
+
+    private static final long M0 = 0xd2e7470ee14c6c93L;
+    private static final long M1 = 0xca5a826395121157L;
+    private static final long W0 = 0x9e3779b97f4a7c15L;
+    private static final long W1 = 0xbb67ae8584caa73bL;
+    private static final int ROUNDS = 10;
+
+    private long key;
+    private long counter;
+
+    private final long[] block = new long[4];
+    private long blockIndex = -1;
+
+    /**
+     * Constructs {@link Philox4x64} with a key that is likely to be different from any other invocation.
+     */
+    public Philox4x64() {
+        super();
+    }
+
+    /**
+     * Constructs {@link Philox4x64} that generates the stream identified by the key from its beginning.
+     *
+     * @param key the key of the stream
+     */
+    public Philox4x64(long key) {
+        super(key);
+    }
+
+    /**
+     * Constructs {@link Philox4x64} that generates the stream identified by the key from the given position.
+     *
+     * @param key     the key of the stream
+     * @param counter the position in the stream
+     */
+    public Philox4x64(long key, long counter) {
+        super(key);
+        this.counter = counter;
+    }
+
+    /**
+     * Computes the Philox4x64-10 bijection of a 256-bit counter under a 128-bit key.
+     *
+     * @param k0  the 1st word of the key
+     * @param k1  the 2nd word of the key
+     * @param c0  the 1st word of the counter
+     * @param c1  the 2nd word of the counter
+     * @param c2  the 3rd word of the counter
+     * @param c3  the 4th word of the counter
+     * @param out the array that receives the four output words
+     */
+    public static void block(long k0, long k1, long c0, long c1, long c2, long c3, long[] out) {
+        for (int i = 0; i < ROUNDS; i++) {
+            if (i > 0) {
+                k0 += W0;
+                k1 += W1;
+            }
+
+            long hi0 = Pcg64Dxsm.unsignedMultiplyHigh(M0, c0);
+            long lo0 = M0 * c0;
+            long hi1 = Pcg64Dxsm.unsignedMultiplyHigh(M1, c2);
+            long lo1 = M1 * c2;
+
+            c0 = hi1 ^ c1 ^ k0;
+            c1 = lo1;
+            c2 = hi0 ^ c3 ^ k1;
+            c3 = lo0;
+        }
+
+        out[0] = c0;
+        out[1] = c1;
+        out[2] = c2;
+        out[3] = c3;
+    }
+
+    /**
+     * Returns the {@code counter}-th 64-bit value of the stream identified by {@code key}.
+     * <p>
+     * Each invocation computes a whole block of four values without allocation and returns one of them;
+     * use an instance of this class to draw consecutive values of a stream.
+     * </p>
+     *
+     * @param key     the key of the stream
+     * @param counter the position in the stream
+     * @return the random value
+     */
+    public static long at(long key, long counter) {
+        // the same rounds as block(key, 0, counter >>> 2, 0, 0, 0, out), returning the lane instead of storing the block
+        long k0 = key;
+        long k1 = 0;
+        long c0 = counter >>> 2;
+        long c1 = 0;
+        long c2 = 0;
+        long c3 = 0;
+
+        for (int i = 0; i < ROUNDS; i++) {
+            if (i > 0) {
+                k0 += W0;
+                k1 += W1;
+            }
+
+            long hi0 = Pcg64Dxsm.unsignedMultiplyHigh(M0, c0);
+            long lo0 = M0 * c0;
+            long hi1 = Pcg64Dxsm.unsignedMultiplyHigh(M1, c2);
+            long lo1 = M1 * c2;
+
+            c0 = hi1 ^ c1 ^ k0;
+            c1 = lo1;
+            c2 = hi0 ^ c3 ^ k1;
+            c3 = lo0;
+        }
+
+        switch ((int) (counter & 3)) {
+            case 0:
+                return c0;
+            case 1:
+                return c1;
+            case 2:
+                return c2;
+            default:
+                return c3;
+        }
+    }
+
+    /**
+     * Returns the key of the stream.
+     *
+     * @return the key
+     */
+    public long getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the position of the value that will be returned by the next {@link #nextLong()} invocation.
+     *
+     * @return the position in the stream
+     */
+    public long getCounter() {
+        return counter;
+    }
+
+    /**
+     * Moves to the given position of the stream.
+     *
+     * @param counter the position in the stream
+     */
+    public void setCounter(long counter) {
+        this.counter = counter;
+    }
+
+    /**
+     * Selects the stream identified by the seed and rewinds to its beginning.
+     *
+     * @param seed the key of the stream
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+
+        key = seed;
+        counter = 0;
+        blockIndex = -1;
+    }
+
+    /**
+     * Returns the state of this generator as {@code {key, counter}}.
+     *
+     * @return the state
+     */
+    @Override
+    public long[] saveState() {
+        return new long[]{key, counter};
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        Checkpoints.checkLength(state, 2);
+
+        key = state[0];
+        counter = state[1];
+        blockIndex = -1;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public long nextLong() {
+        long index = counter >>> 2;
+        if (index != blockIndex) {
+            block(key, 0, index, 0, 0, 0, block);
+            blockIndex = index;
+        }
+
+        return block[(int) (counter++ & 3)];
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public String toString() {
+        return "Philox4x64";
+    }
+}
@@ -0,0 +1,138 @@
+package biz.k11i.rng.uniform;
+
+import java.util.Random;
+
+/**
+ * Implementation of SplitMix64 pseudo random number generator.
+ * <p>
+ * Steele Jr, Guy L., Doug Lea, and Christine H. Flood.
+ * <i>"Fast splittable pseudorandom number generators."</i>
+ * ACM SIGPLAN Notices 49.10 (2014): 453-472.
+ * </p>
+ * <p>
+ * The generator adds the odd constant {@code gamma} to the 64-bit state and mixes the state bits to output.
+ * Each stream id selects a different {@code gamma}, so generators created with the same seed and different
+ * stream ids produce different sequences without coordinating seeds.
+ * {@link #SplitMix64(long)} uses the same {@code gamma} as {@link java.util.SplittableRandom#SplittableRandom(long)}
+ * and generates the same sequence of {@link #nextLong()}.
+ * </p>
+ * <p>
+ * Unlike {@link Random}, this class is not thread-safe.
+ * </p>
+ */
+public class SplitMix64 extends Random implements Checkpointable {
+    private static final long serialVersionUID = 1L;
+
+    /** The odd integer closest to 2^64 / phi, where phi is the golden ratio */
+    static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+    private long gamma;
+
+    /**
+     * Constructs {@link SplitMix64} with a seed that is likely to be different from any other invocation.
+     */
+    public SplitMix64() {
+        super();
+    }
+
+    /**
+     * Constructs {@link SplitMix64} with a seed.
+     *
+     * @param seed the initial seed
+     */
+    public SplitMix64(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructs {@link SplitMix64} with a seed and a stream id.
+     *
+     * @param seed     the initial seed
+     * @param streamId the id of the stream
+     */
+    public SplitMix64(long seed, long streamId) {
+        super(seed);
+        this.gamma = mixGamma(streamId);
+    }
+
+    /**
+     * Mixes the bits of the given value (variant 13 of Stafford's mixing functions).
+     */
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns an odd value for {@code gamma}, whose bits are well distributed.
+     */
+    static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+    /**
+     * Sets the seed of this generator. The stream id given to the constructor is kept.
+     *
+     * @param seed the seed
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+        state = seed;
+        if (gamma == 0) {
+            gamma = GOLDEN_GAMMA;
+        }
+    }
+
+    /**
+     * Returns the state of this generator as {@code {state, gamma}}.
+     *
+     * @return the state
+     */
+    @Override
+    public long[] saveState() {
+        return new long[]{state, gamma};
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        Checkpoints.checkLength(state, 2);
+        if ((state[1] & 1) == 0) {
+            throw new IllegalArgumentException("gamma must be odd");
+        }
+
+        this.state = state[0];
+        this.gamma = state[1];
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public long nextLong() {
+        return mix(state += gamma);
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override
+    public String toString() {
+        return "SplitMix64";
+    }
+}
@@ -0,0 +1,161 @@
+package biz.k11i.rng.uniform;
+
+import java.util.Random;
+
+/**
+ * Implementation of xoroshiro128++ pseudo random number generator.
+ * <p>
+ * Blackman, David, and Sebastiano Vigna.
+ * <i>"Scrambled linear pseudorandom number generators."</i>
+ * ACM Transactions on Mathematical Software (TOMS) 47.4 (2021): 1-32.
+ * </p>
+ * <p>
+ * The period of this generator is 2^128 - 1.
+ * {@link #jump()} and {@link #longJump()} advance the state by 2^64 and 2^96 steps respectively,
+ * which can be used to generate non-overlapping sequences for parallel computations.
+ * </p>
+ * <p>
+ * Unlike {@link Random}, this class is not thread-safe.
+ * </p>
+ */
+public class Xoroshiro128PlusPlus extends Random implements Checkpointable {
+    private static final long serialVersionUID = 1L;
+
+    private static final long[] JUMP = {0x2bd7a6a6e99c2ddcL, 0x0992ccaf6a6fca05L};
+    private static final long[] LONG_JUMP = {0x360fd5f2cf8d5d99L, 0x9c6e6877736c46e3L};
+
+    private long s0;
+    private long s1;
+
+    /**
+     * Constructs {@link Xoroshiro128PlusPlus} with a seed that is likely to be different from any other invocation.
+     */
+    public Xoroshiro128PlusPlus() {
+        super();
+    }
+
+    /**
+     * Constructs {@link Xoroshiro128PlusPlus} with a seed.
+     * The state is initialized by the output of SplitMix64 generator seeded with the given value.
+     *
+     * @param seed the initial seed
+     */
+    public Xoroshiro128PlusPlus(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructs {@link Xoroshiro128PlusPlus} with the state.
+     *
+     * @param s0 the 1st word of the state
+     * @param s1 the 2nd word of the state
+     */
+    public Xoroshiro128PlusPlus(long s0, long s1) {
+        super(0);
+        setState(s0, s1);
+    }
+
+    private void setState(long s0, long s1) {
+        if ((s0 | s1) == 0) {
+            throw new IllegalArgumentException("state must not be all zero");
+        }
+
+        this.s0 = s0;
+        this.s1 = s1;
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+
+        long x = seed;
+        long t0 = SplitMix64.mix(x += SplitMix64.GOLDEN_GAMMA);
+        long t1 = SplitMix64.mix(x + SplitMix64.GOLDEN_GAMMA);
+        setState(t0, t1);
+    }
+
+    /**
+     * Returns the state of this generator as {@code {s0, s1}}.
+     *
+     * @return the state
+     */
+    @Override
+    public long[] saveState() {
+        return new long[]{s0, s1};
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        Checkpoints.checkLength(state, 2);
+        setState(state[0], state[1]);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public long nextLong() {
+        long s0 = this.s0;
+        long s1 = this.s1;
+
+        long result = Long.rotateLeft(s0 + s1, 17) + s0;
+
+        s1 ^= s0;
+        this.s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+        this.s1 = Long.rotateLeft(s1, 28);
+
+        return result;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Advances the state by 2^64 steps.
+     * It can be used to generate 2^64 non-overlapping subsequences for parallel computations.
+     */
+    public void jump() {
+        jump(JUMP);
+    }
+
+    /**
+     * Advances the state by 2^96 steps.
+     * It can be used to generate 2^32 starting points, from each of which {@link #jump()} will generate
+     * 2^32 non-overlapping subsequences for parallel distributed computations.
+     */
+    public void longJump() {
+        jump(LONG_JUMP);
+    }
+
+    private void jump(long[] polynomial) {
+        long t0 = 0;
+        long t1 = 0;
+
+        for (long p : polynomial) {
+            for (int b = 0; b < 64; b++) {
+                if ((p & (1L << b)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                }
+                nextLong();
+            }
+        }
+
+        s0 = t0;
+        s1 = t1;
+    }
+
+    @Override
+    public String toString() {
+        return "Xoroshiro128PlusPlus";
+    }
+}
@@ -0,0 +1,188 @@
+package biz.k11i.rng.uniform;
+
+import java.util.Random;
+
+/**
+ * Implementation of xoshiro256++ pseudo random number generator.
+ * <p>
+ * Blackman, David, and Sebastiano Vigna.
+ * <i>"Scrambled linear pseudorandom number generators."</i>
+ * ACM Transactions on Mathematical Software (TOMS) 47.4 (2021): 1-32.
+ * </p>
+ * <p>
+ * The period of this generator is 2^256 - 1.
+ * {@link #jump()} and {@link #longJump()} advance the state by 2^128 and 2^192 steps respectively,
+ * which can be used to generate non-overlapping sequences for parallel computations.
+ * </p>
+ * <p>
+ * Unlike {@link Random}, this class is not thread-safe.
+ * </p>
+ */
+public class Xoshiro256PlusPlus extends Random implements Checkpointable {
+    private static final long serialVersionUID = 1L;
+
+    private static final long[] JUMP = {
+            0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL};
+    private static final long[] LONG_JUMP = {
+            0x76e15d3efefdcbbfL, 0xc5004e441c522fb3L, 0x77710069854ee241L, 0x39109bb02acbe635L};
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    /**
+     * Constructs {@link Xoshiro256PlusPlus} with a seed that is likely to be different from any other invocation.
+     */
+    public Xoshiro256PlusPlus() {
+        super();
+    }
+
+    /**
+     * Constructs {@link Xoshiro256PlusPlus} with a seed.
+     * The state is initialized by the output of SplitMix64 generator seeded with the given value.
+     *
+     * @param seed the initial seed
+     */
+    public Xoshiro256PlusPlus(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Constructs {@link Xoshiro256PlusPlus} with the state.
+     *
+     * @param s0 the 1st word of the state
+     * @param s1 the 2nd word of the state
+     * @param s2 the 3rd word of the state
+     * @param s3 the 4th word of the state
+     */
+    public Xoshiro256PlusPlus(long s0, long s1, long s2, long s3) {
+        super(0);
+        setState(s0, s1, s2, s3);
+    }
+
+    private void setState(long s0, long s1, long s2, long s3) {
+        if ((s0 | s1 | s2 | s3) == 0) {
+            throw new IllegalArgumentException("state must not be all zero");
+        }
+
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+    }
+
+    @Override
+    public synchronized void setSeed(long seed) {
+        super.setSeed(seed);
+
+        long x = seed;
+        long t0 = SplitMix64.mix(x += SplitMix64.GOLDEN_GAMMA);
+        long t1 = SplitMix64.mix(x += SplitMix64.GOLDEN_GAMMA);
+        long t2 = SplitMix64.mix(x += SplitMix64.GOLDEN_GAMMA);
+        long t3 = SplitMix64.mix(x + SplitMix64.GOLDEN_GAMMA);
+        setState(t0, t1, t2, t3);
+    }
+
+    /**
+     * Returns the state of this generator as {@code {s0, s1, s2, s3}}.
+     *
+     * @return the state
+     */
+    @Override
+    public long[] saveState() {
+        return new long[]{s0, s1, s2, s3};
+    }
+
+    @Override
+    public void restoreState(long[] state) {
+        Checkpoints.checkLength(state, 4);
+        setState(state[0], state[1], state[2], state[3]);
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override
+    public long nextLong() {
+        long s0 = this.s0;
+        long s1 = this.s1;
+        long s2 = this.s2;
+        long s3 = this.s3;
+
+        long result = Long.rotateLeft(s0 + s3, 23) + s0;
+        long t = s1 << 17;
+
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+
+        this.s0 = s0;
+        this.s1 = s1;
+        this.s2 = s2;
+        this.s3 = s3;
+
+        return result;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Advances the state by 2^128 steps.
+     * It can be used to generate 2^128 non-overlapping subsequences for parallel computations.
+     */
+    public void jump() {
+        jump(JUMP);
+    }
+
+    /**
+     * Advances the state by 2^192 steps.
+     * It can be used to generate 2^64 starting points, from each of which {@link #jump()} will generate
+     * 2^64 non-overlapping subsequences for parallel distributed computations.
+     */
+    public void longJump() {
+        jump(LONG_JUMP);
+    }
+
+    private void jump(long[] polynomial) {
+        long t0 = 0;
+        long t1 = 0;
+        long t2 = 0;
+        long t3 = 0;
+
+        for (long p : polynomial) {
+            for (int b = 0; b < 64; b++) {
+                if ((p & (1L << b)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                    t2 ^= s2;
+                    t3 ^= s3;
+                }
+                nextLong();
+            }
+        }
+
+        s0 = t0;
+        s1 = t1;
+        s2 = t2;
+        s3 = t3;
+    }
+
+    @Override
+    public String toString() {
+        return "Xoshiro256PlusPlus";
+    }
+}
@@ -3,12 +3,20 @@ package biz.k11i.rng;
 import biz.k11i.rng.test.SecondLevelTest;
 import biz.k11i.rng.test.gof.GoodnessOfFitTest;
 import biz.k11i.rng.test.util.distribution.ProbabilityDistributions;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class BetaRNGTest {
     static Stream<Arguments> parameterCase1() {
         return Stream.of(
@@ -102,10 +110,127 @@ class BetaRNGTest {
         test(BetaRNG.GENERAL_RNG, alpha, beta);
     }
 
+    static Stream<Arguments> allParameters() {
+        return Stream.of(parameterCase1(), parameterCase2(), parameterCase3(), parameterSpecialCase())
+                .flatMap(s -> s);
+    }
+
+    @ParameterizedTest
+    @MethodSource("allParameters")
+    void testSampler_fast(double alpha, double beta) {
+        testSampler(BetaRNG.FAST_RNG, alpha, beta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("allParameters")
+    void testSampler_general(double alpha, double beta) {
+        testSampler(BetaRNG.GENERAL_RNG, alpha, beta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("allParameters")
+    void testBatch_fast(double alpha, double beta) {
+        testBatch(BetaRNG.FAST_RNG, alpha, beta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("allParameters")
+    void testBatch_general(double alpha, double beta) {
+        testBatch(BetaRNG.GENERAL_RNG, alpha, beta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("allParameters")
+    void testUniformSource_fast(double alpha, double beta) {
+        testUniformSource(BetaRNG.FAST_RNG, alpha, beta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("allParameters")
+    void testUniformSource_general(double alpha, double beta) {
+        testUniformSource(BetaRNG.GENERAL_RNG, alpha, beta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("allParameters")
+    void testSplittableRandom_fast(double alpha, double beta) {
+        testSplittableRandom(BetaRNG.FAST_RNG, alpha, beta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("allParameters")
+    void testSplittableRandom_general(double alpha, double beta) {
+        testSplittableRandom(BetaRNG.GENERAL_RNG, alpha, beta);
+    }
+
+    /**
+     * B00 recomputes its constants when the parameters change within its group,
+     * and the values are the same as those generated one by one.
+     */
+    @Test
+    void testBatchWithAlternatingParametersOfB00() {
+        double[][] parameters = {{0.7, 0.9}, {0.9, 0.8}, {0.9, 0.8}, {0.6, 0.95}};
+        final int n = 10_000;
+
+        double[] alphas = new double[n];
+        double[] betas = new double[n];
+        double[] expected = new double[n];
+        Random expectedRandom = new Random(12345);
+        for (int i = 0; i < n; i++) {
+            alphas[i] = parameters[i % parameters.length][0];
+            betas[i] = parameters[i % parameters.length][1];
+            expected[i] = BetaRNG.FAST_RNG.generate(expectedRandom, alphas[i], betas[i]);
+        }
+
+        double[] actual = new double[n];
+        BetaRNG.FAST_RNG.generate(new Random(12345), alphas, betas, actual);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * Tests each subsequence of the batches, in which the parameters of different algorithms are interleaved.
+     */
+    @Test
+    void testBatchWithMixedParameters() {
+        // B00, Jöhnk's algorithm and two gamma variates
+        double[][] parameters = {{0.7, 0.9}, {0.05, 2.0}, {3.0, 7.0}};
+        final int m = parameters.length;
+        final int n = 1000 * m;
+
+        double[] alphas = new double[n];
+        double[] betas = new double[n];
+        for (int i = 0; i < n; i++) {
+            alphas[i] = parameters[i % m][0];
+            betas[i] = parameters[i % m][1];
+        }
+
+        for (int j = 0; j < m; j++) {
+            final int offset = j;
+            ThreadLocal<Subsequence> subsequences = ThreadLocal.withInitial(() -> new Subsequence(n));
+
+            test(String.format("BatchBeta(%f, %f)", alphas[j], betas[j]), alphas[j], betas[j], r -> {
+                Subsequence subsequence = subsequences.get();
+                if (subsequence.position >= n) {
+                    BetaRNG.FAST_RNG.generate(r, alphas, betas, subsequence.values);
+                    subsequence.position = offset;
+                }
+
+                double x = subsequence.values[subsequence.position];
+                subsequence.position += m;
+                return x;
+            });
+        }
+    }
+
     private void test(BetaRNG rng, double alpha, double beta) {
+        test(String.format("Beta(%f, %f)", alpha, beta), alpha, beta, r -> rng.generate(r, alpha, beta));
+    }
+
+    private void test(String name, double alpha, double beta, ToDoubleFunction<Random> generator) {
         GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
                 .probabilityDistribution(ProbabilityDistributions.beta(alpha, beta))
-                .randomNumberGenerator(String.format("Beta(%f, %f)", alpha, beta), r -> rng.generate(r, alpha, beta))
+                .randomNumberGenerator(name, generator::applyAsDouble)
                 .numRandomValues(1_000_000)
                 .build();
 
@@ -114,4 +239,91 @@ class BetaRNGTest {
                 .build()
                 .testAndVerify(gofTest);
     }
+
+    private void testSampler(BetaRNG rng, double alpha, double beta) {
+        final int n = 100_000;
+
+        Random expectedRandom = new Random(12345);
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(expectedRandom, alpha, beta);
+        }
+
+        BetaSampler sampler = rng.sampler(alpha, beta);
+        Random random = new Random(12345);
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = sampler.generate(random);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testSplittableRandom(BetaRNG rng, double alpha, double beta) {
+        final int n = 100_000;
+
+        UniformSource source = UniformSource.of(new SplittableRandom(12345));
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(source, alpha, beta);
+        }
+
+        SplittableRandom random = new SplittableRandom(12345);
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = rng.generate(random, alpha, beta);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testUniformSource(BetaRNG rng, double alpha, double beta) {
+        final int n = 100_000;
+
+        Random random = new Xoshiro256PlusPlus(12345);
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(random, alpha, beta);
+        }
+
+        UniformSource source = new Xoshiro256PlusPlus(12345)::nextLong;
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = rng.generate(source, alpha, beta);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testBatch(BetaRNG rng, double alpha, double beta) {
+        final int n = 100_000;
+
+        Random expectedRandom = new Random(12345);
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(expectedRandom, alpha, beta);
+        }
+
+        double[] alphas = new double[n];
+        double[] betas = new double[n];
+        Arrays.fill(alphas, alpha);
+        Arrays.fill(betas, beta);
+        double[] actual = new double[n];
+        rng.generate(new Random(12345), alphas, betas, actual);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * Values of a batch, which are consumed every {@code m} elements from an offset.
+     */
+    private static class Subsequence {
+        final double[] values;
+        int position;
+
+        Subsequence(int n) {
+            this.values = new double[n];
+            this.position = n;
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.test.SecondLevelTest;
+import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.test.util.distribution.ProbabilityDistributions;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class DirichletRNGTest {
+    static Stream<Arguments> parameters() {
+        return Stream.of(
+                Arguments.of((Object) new double[]{1.0, 1.0, 1.0}),
+                Arguments.of((Object) new double[]{2.5, 0.5, 7.0, 1.0}),
+                Arguments.of((Object) new double[]{0.3, 0.1, 0.05, 0.9, 0.3}),
+                Arguments.of((Object) new double[]{0.02, 3.0, 40.0}));
+    }
+
+    /**
+     * Tests the marginal distribution of the first component, which is {@code Beta(alpha_0, sum(alpha) - alpha_0)}.
+     */
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testMarginal_fast(double[] alpha) {
+        testMarginal(DirichletRNG.FAST_RNG, alpha);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testMarginal_general(double[] alpha) {
+        testMarginal(DirichletRNG.GENERAL_RNG, alpha);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testSampler(double[] alpha) {
+        final int n = 100_000;
+        final int k = alpha.length;
+
+        Random expectedRandom = new Random(12345);
+        double[] expected = new double[n * k];
+        double[] out = new double[k];
+        for (int i = 0; i < n; i++) {
+            DirichletRNG.FAST_RNG.generate(expectedRandom, alpha, out);
+            System.arraycopy(out, 0, expected, i * k, k);
+        }
+
+        DirichletSampler sampler = DirichletRNG.FAST_RNG.sampler(alpha);
+        Random random = new Random(12345);
+        double[] actual = new double[n * k];
+        for (int i = 0; i < n; i++) {
+            sampler.generate(random, out);
+            System.arraycopy(out, 0, actual, i * k, k);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * {@code u^{1 / alpha}} of such small alpha underflows to 0 for every component in the linear space.
+     */
+    @Test
+    void testSmallAlpha() {
+        final int n = 100_000;
+        final double[] alpha = new double[100];
+        Arrays.fill(alpha, 1e-3);
+        alpha[0] = 0.05;
+
+        Random random = new Xoshiro256PlusPlus(12345);
+        DirichletSampler sampler = DirichletRNG.FAST_RNG.sampler(alpha);
+        double[] out = new double[alpha.length];
+        double sum0 = 0;
+
+        for (int i = 0; i < n; i++) {
+            if ((i & 1) == 0) {
+                DirichletRNG.FAST_RNG.generate(random, alpha, out);
+            } else {
+                sampler.generate(random, out);
+            }
+
+            double sum = 0;
+            for (double x : out) {
+                assertThat(x).isBetween(0.0, 1.0);
+                sum += x;
+            }
+            assertThat(sum).isCloseTo(1.0, within(1e-12));
+            sum0 += out[0];
+        }
+
+        // E[x_0] = alpha_0 / sum(alpha) = 0.05 / 0.149
+        double mean = 0.05 / 0.149;
+        double sd = Math.sqrt(mean * (1 - mean) / (1 + 0.149) / n);
+        assertThat(sum0 / n).isCloseTo(mean, within(6 * sd));
+    }
+
+    @Test
+    void testInvalidArguments() {
+        Random random = new Random(12345);
+        assertThatThrownBy(() -> DirichletRNG.FAST_RNG.generate(random, new double[]{1.0, 2.0}, new double[3]))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        DirichletSampler sampler = DirichletRNG.FAST_RNG.sampler(new double[]{1.0, 2.0});
+        assertThatThrownBy(() -> sampler.generate(random, new double[1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void testMarginal(DirichletRNG rng, double[] alpha) {
+        double rest = Arrays.stream(alpha).sum() - alpha[0];
+        ThreadLocal<double[]> buffers = ThreadLocal.withInitial(() -> new double[alpha.length]);
+
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(ProbabilityDistributions.beta(alpha[0], rest))
+                .randomNumberGenerator(String.format("Dirichlet%s", Arrays.toString(alpha)), r -> {
+                    double[] out = buffers.get();
+                    rng.generate(r, alpha, out);
+                    return out[0];
+                })
+                .numRandomValues(1_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+}
@@ -2,12 +2,22 @@ package biz.k11i.rng;
 
 import biz.k11i.rng.test.SecondLevelTest;
 import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
 import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.SplittableRandom;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 class ExponentialRNGTest {
     static Stream<Double> parameter() {
         return Stream.of(0.01, 1.0, 100.0);
@@ -25,6 +35,93 @@ class ExponentialRNGTest {
         test(ExponentialRNG.GENERAL_RNG, theta);
     }
 
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testModifiedZiggurat(double theta) {
+        test(ExponentialRNG.MODIFIED_ZIGGURAT, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testFillFast(double theta) {
+        testFill(ExponentialRNG.FAST_RNG, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testFillGeneral(double theta) {
+        testFill(ExponentialRNG.GENERAL_RNG, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testFillModifiedZiggurat(double theta) {
+        testFill(ExponentialRNG.MODIFIED_ZIGGURAT, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testFillBufferFast(double theta) {
+        testFillBuffer(ExponentialRNG.FAST_RNG, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testFillBufferGeneral(double theta) {
+        testFillBuffer(ExponentialRNG.GENERAL_RNG, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testUniformSourceFast(double theta) {
+        testUniformSource(ExponentialRNG.FAST_RNG, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testUniformSourceGeneral(double theta) {
+        testUniformSource(ExponentialRNG.GENERAL_RNG, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testSplittableRandomFast(double theta) {
+        testSplittableRandom(ExponentialRNG.FAST_RNG, theta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testSplittableRandomGeneral(double theta) {
+        testSplittableRandom(ExponentialRNG.GENERAL_RNG, theta);
+    }
+
+    static Stream<Integer> nBits() {
+        return Stream.of(7, 9, 10, 12);
+    }
+
+    @ParameterizedTest
+    @MethodSource("nBits")
+    void testFastWithNBits(int nBits) {
+        test(ExponentialRNG.ziggurat(nBits), 1.0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("nBits")
+    void testGeneralWithNBits(int nBits) {
+        test(ExponentialRNG.generalZiggurat(nBits), 1.0);
+    }
+
+    @Test
+    void testZigguratFactory() {
+        assertThat(ExponentialRNG.ziggurat(8)).isSameAs(ExponentialRNG.FAST_RNG);
+        assertThat(ExponentialRNG.generalZiggurat(8)).isSameAs(ExponentialRNG.GENERAL_RNG);
+
+        assertThatThrownBy(() -> ExponentialRNG.ziggurat(11))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ExponentialRNG.generalZiggurat(13))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private void test(ExponentialRNG rng, double theta) {
         GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
                 .probabilityDistribution(new ExponentialDistribution(theta))
@@ -37,4 +134,78 @@ class ExponentialRNGTest {
                 .build()
                 .testAndVerify(gofTest);
     }
+
+    private void testFill(ExponentialRNG rng, double theta) {
+        final int n = 1_000_000;
+
+        Random expectedRandom = new Random(12345);
+        double[] expected = new double[n + 2];
+        for (int i = 1; i <= n; i++) {
+            expected[i] = rng.generate(expectedRandom, theta);
+        }
+
+        Random random = new Random(12345);
+        double[] actual = new double[n + 2];
+        rng.fill(random, actual, 1, n, theta);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testUniformSource(ExponentialRNG rng, double theta) {
+        final int n = 1_000_000;
+
+        Random random = new Xoshiro256PlusPlus(12345);
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(random, theta);
+        }
+
+        UniformSource source = new Xoshiro256PlusPlus(12345)::nextLong;
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = rng.generate(source, theta);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testSplittableRandom(ExponentialRNG rng, double theta) {
+        final int n = 1_000_000;
+
+        UniformSource source = UniformSource.of(new SplittableRandom(12345));
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(source, theta);
+        }
+
+        SplittableRandom random = new SplittableRandom(12345);
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = rng.generate(random, theta);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testFillBuffer(ExponentialRNG rng, double theta) {
+        final int n = 100_000;
+
+        double[] expected = new double[n];
+        rng.fill(new Random(12345), expected, 0, n, theta);
+
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(n * Double.BYTES + 12).order(ByteOrder.nativeOrder());
+        byteBuffer.position(8);
+        rng.fill(new Random(12345), byteBuffer, theta);
+        assertThat(byteBuffer.position()).isEqualTo(n * Double.BYTES + 8);
+
+        byteBuffer.position(8);
+        double[] actual = new double[n];
+        byteBuffer.asDoubleBuffer().get(actual);
+        assertThat(actual).isEqualTo(expected);
+
+        DoubleBuffer heapBuffer = DoubleBuffer.allocate(n);
+        rng.fill(new Random(12345), heapBuffer, theta);
+        assertThat(heapBuffer.hasRemaining()).isFalse();
+        assertThat(heapBuffer.array()).isEqualTo(expected);
+    }
 }
@@ -0,0 +1,80 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.FloatGaussianRNGTest.FloatCursor;
+import biz.k11i.rng.FloatGaussianRNGTest.FloatRandomNumberGenerator;
+import biz.k11i.rng.test.SecondLevelTest;
+import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.apache.commons.math3.distribution.ExponentialDistribution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FloatExponentialRNGTest {
+    static Stream<Float> parameter() {
+        return Stream.of(0.01f, 100.0f);
+    }
+
+    @Test
+    void testFast() {
+        test("Exp(1) (float)", r -> FloatExponentialRNG.FAST_RNG.generate(r, 1.0f));
+    }
+
+    @Test
+    void testFillFast() {
+        ThreadLocal<FloatCursor> cursors = ThreadLocal.withInitial(
+                () -> new FloatCursor((random, dst) -> FloatExponentialRNG.FAST_RNG.fill(random, dst, 0, dst.length, 1.0f)));
+        test("Exp(1) (float, fill)", r -> cursors.get().next(r));
+    }
+
+    /**
+     * Rounding {@code theta * x} to {@code float} makes the SPACING test reject the scaled values,
+     * so the scaling is verified against the standard values.
+     */
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testTheta(float theta) {
+        final int n = 100_001;
+
+        Random expectedRandom = new Xoshiro256PlusPlus(12345);
+        Random random = new Xoshiro256PlusPlus(12345);
+        for (int i = 0; i < n; i++) {
+            assertThat(FloatExponentialRNG.FAST_RNG.generate(random, theta))
+                    .isEqualTo(theta * FloatExponentialRNG.FAST_RNG.generate(expectedRandom, 1.0f));
+        }
+
+        float[] expected = new float[n];
+        FloatExponentialRNG.FAST_RNG.fill(new Xoshiro256PlusPlus(12345), expected, 0, n, 1.0f);
+
+        float[] actual = new float[n + 2];
+        FloatExponentialRNG.FAST_RNG.fill(new Xoshiro256PlusPlus(12345), actual, 1, n, theta);
+
+        assertThat(actual[0]).isZero();
+        assertThat(actual[n + 1]).isZero();
+        for (int i = 0; i < n; i++) {
+            assertThat(actual[i + 1]).isEqualTo(theta * expected[i]);
+        }
+
+        assertThatThrownBy(() -> FloatExponentialRNG.FAST_RNG.fill(random, actual, 3, n, theta))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private void test(String name, FloatRandomNumberGenerator rng) {
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(new ExponentialDistribution(1.0))
+                .randomNumberGenerator(name, r -> Math.abs(FloatGaussianRNGTest.dequantize(rng.generate(r), r)))
+                .numRandomValues(2_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+}
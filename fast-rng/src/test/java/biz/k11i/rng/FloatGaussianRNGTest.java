@@ -0,0 +1,97 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.test.SecondLevelTest;
+import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.test.util.distribution.ProbabilityDistributions;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FloatGaussianRNGTest {
+    @Test
+    void testFast() {
+        test("Gaussian (float)", FloatGaussianRNG.FAST_RNG::generate);
+    }
+
+    @Test
+    void testFillFast() {
+        ThreadLocal<FloatCursor> cursors = ThreadLocal.withInitial(
+                () -> new FloatCursor((random, dst) -> FloatGaussianRNG.FAST_RNG.fill(random, dst, 0, dst.length)));
+        test("Gaussian (float, fill)", r -> cursors.get().next(r));
+    }
+
+    @Test
+    void testFillWithParameters() {
+        final int n = 100_001;
+        float[] dst = new float[n + 2];
+        FloatGaussianRNG.FAST_RNG.fill(new Xoshiro256PlusPlus(12345), dst, 1, n, 10.0f, 0.5f);
+
+        float[] standard = new float[n];
+        FloatGaussianRNG.FAST_RNG.fill(new Xoshiro256PlusPlus(12345), standard, 0, n);
+
+        assertThat(dst[0]).isZero();
+        assertThat(dst[n + 1]).isZero();
+        for (int i = 0; i < n; i++) {
+            assertThat(dst[i + 1]).isEqualTo(10.0f + 0.5f * standard[i]);
+        }
+
+        assertThatThrownBy(() -> FloatGaussianRNG.FAST_RNG.fill(new Random(), dst, 3, n))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private void test(String name, FloatRandomNumberGenerator rng) {
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(ProbabilityDistributions.gaussian(0.0, 1.0))
+                .randomNumberGenerator(name, r -> dequantize(rng.generate(r), r))
+                .numRandomValues(2_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+
+    /**
+     * Spreads the value uniformly over the interval of the values rounded to it.
+     * Without this, the SPACING test rejects any sequence of {@code float} because of the ties.
+     */
+    static double dequantize(float x, Random random) {
+        return x + (random.nextDouble() - 0.5) * Math.ulp(x);
+    }
+
+    @FunctionalInterface
+    interface FloatRandomNumberGenerator {
+        float generate(Random random);
+    }
+
+    @FunctionalInterface
+    interface FloatFiller {
+        void fill(Random random, float[] dst);
+    }
+
+    /**
+     * Draws the values one by one from the array filled in bulk.
+     */
+    static class FloatCursor {
+        private final FloatFiller filler;
+        private final float[] buffer = new float[1023];
+        private int index = buffer.length;
+
+        FloatCursor(FloatFiller filler) {
+            this.filler = filler;
+        }
+
+        float next(Random random) {
+            if (index == buffer.length) {
+                filler.fill(random, buffer);
+                index = 0;
+            }
+            return buffer[index++];
+        }
+    }
+}
@@ -3,11 +3,20 @@ package biz.k11i.rng;
 import biz.k11i.rng.test.SecondLevelTest;
 import biz.k11i.rng.test.gof.GoodnessOfFitTest;
 import biz.k11i.rng.test.util.distribution.ProbabilityDistributions;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import biz.k11i.util.MathFunctions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class GammaRNGTest {
     private static final double SCALE = 0.01;
 
@@ -27,10 +36,92 @@ class GammaRNGTest {
         test(GammaRNG.GENERAL_RNG, shape);
     }
 
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testSamplerFast(double shape) {
+        testSampler(GammaRNG.FAST_RNG, shape);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testSamplerGeneral(double shape) {
+        testSampler(GammaRNG.GENERAL_RNG, shape);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testBatchFast(double shape) {
+        testBatch(GammaRNG.FAST_RNG, shape, shape < 1.0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testBatchGeneral(double shape) {
+        testBatch(GammaRNG.GENERAL_RNG, shape, shape >= 0.1 && shape < 1.0);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testUniformSourceFast(double shape) {
+        testUniformSource(GammaRNG.FAST_RNG, shape);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testUniformSourceGeneral(double shape) {
+        testUniformSource(GammaRNG.GENERAL_RNG, shape);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testSplittableRandomFast(double shape) {
+        testSplittableRandom(GammaRNG.FAST_RNG, shape);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameter")
+    void testSplittableRandomGeneral(double shape) {
+        testSplittableRandom(GammaRNG.GENERAL_RNG, shape);
+    }
+
+    @Test
+    void testBatchWithMixedShapes() {
+        // Marsaglia and Tsang's algorithm with and without boosting, and Wilson-Hilferty approximation
+        double[] parameters = {0.05, 2.5, 100.0};
+        final int m = parameters.length;
+        final int n = 1000 * m;
+
+        double[] shapes = new double[n];
+        for (int i = 0; i < n; i++) {
+            shapes[i] = parameters[i % m];
+        }
+
+        for (int j = 0; j < m; j++) {
+            final int offset = j;
+            ThreadLocal<Subsequence> subsequences = ThreadLocal.withInitial(() -> new Subsequence(n));
+
+            test(String.format("BatchGamma(%f, %f)", shapes[j], SCALE), shapes[j], r -> {
+                Subsequence subsequence = subsequences.get();
+                if (subsequence.position >= n) {
+                    GammaRNG.FAST_RNG.generate(r, shapes, SCALE, subsequence.values);
+                    subsequence.position = offset;
+                }
+
+                double x = subsequence.values[subsequence.position];
+                subsequence.position += m;
+                return x;
+            });
+        }
+    }
+
     private void test(GammaRNG rng, double shape) {
+        test(String.format("Gamma(%f, %f)", shape, SCALE), shape, r -> rng.generate(r, shape, SCALE));
+    }
+
+    private void test(String name, double shape, ToDoubleFunction<Random> generator) {
         GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
                 .probabilityDistribution(ProbabilityDistributions.gamma(shape, SCALE))
-                .randomNumberGenerator(String.format("Gamma(%f, %f)", shape, SCALE), r -> rng.generate(r, shape, SCALE))
+                .randomNumberGenerator(name, generator::applyAsDouble)
                 .numRandomValues(2_000_000)
                 .build();
 
@@ -39,4 +130,101 @@ class GammaRNGTest {
                 .build()
                 .testAndVerify(gofTest);
     }
+
+    private void testSampler(GammaRNG rng, double shape) {
+        final int n = 100_000;
+
+        Random expectedRandom = new Random(12345);
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(expectedRandom, shape, SCALE);
+        }
+
+        GammaSampler sampler = rng.sampler(shape, SCALE);
+        Random random = new Random(12345);
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = sampler.generate(random);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testSplittableRandom(GammaRNG rng, double shape) {
+        final int n = 100_000;
+
+        UniformSource source = UniformSource.of(new SplittableRandom(12345));
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(source, shape, SCALE);
+        }
+
+        SplittableRandom random = new SplittableRandom(12345);
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = rng.generate(random, shape, SCALE);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testUniformSource(GammaRNG rng, double shape) {
+        final int n = 100_000;
+
+        Random random = new Xoshiro256PlusPlus(12345);
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(random, shape, SCALE);
+        }
+
+        UniformSource source = new Xoshiro256PlusPlus(12345)::nextLong;
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = rng.generate(source, shape, SCALE);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testBatch(GammaRNG rng, double shape, boolean boosted) {
+        final int n = 100_000;
+
+        Random expectedRandom = new Random(12345);
+        double[] expected = new double[n];
+        if (boosted) {
+            // Marsaglia-Tsang's variates of (shape + 1) are boosted in a separate pass
+            for (int i = 0; i < n; i++) {
+                expected[i] = rng.generate(expectedRandom, shape + 1, 1.0);
+            }
+            for (int i = 0; i < n; i++) {
+                double u = expectedRandom.nextDouble();
+                expected[i] = (shape != 0.5 ? expected[i] * MathFunctions.pow(u, 1.0 / shape) : expected[i] * u * u) * SCALE;
+            }
+
+        } else {
+            for (int i = 0; i < n; i++) {
+                expected[i] = rng.generate(expectedRandom, shape, SCALE);
+            }
+        }
+
+        double[] shapes = new double[n];
+        Arrays.fill(shapes, shape);
+        double[] actual = new double[n];
+        rng.generate(new Random(12345), shapes, SCALE, actual);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    /**
+     * Values of a batch, which are consumed every {@code m} elements from an offset.
+     */
+    private static class Subsequence {
+        final double[] values;
+        int position;
+
+        Subsequence(int n) {
+            this.values = new double[n];
+            this.position = n;
+        }
+    }
 }
@@ -3,7 +3,22 @@ package biz.k11i.rng;
 import biz.k11i.rng.test.gof.GoodnessOfFitTest;
 import biz.k11i.rng.test.SecondLevelTest;
 import biz.k11i.rng.test.util.distribution.ProbabilityDistributions;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.UniformRealDistribution;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class GaussianRNGTest {
     @Test
@@ -16,6 +31,125 @@ class GaussianRNGTest {
         test(GaussianRNG.GENERAL_RNG);
     }
 
+    @Test
+    void testModifiedZiggurat() {
+        test(GaussianRNG.MODIFIED_ZIGGURAT);
+    }
+
+    @Test
+    void testFillFast() {
+        testFill(GaussianRNG.FAST_RNG);
+    }
+
+    @Test
+    void testFillGeneral() {
+        testFill(GaussianRNG.GENERAL_RNG);
+    }
+
+    @Test
+    void testFillModifiedZiggurat() {
+        testFill(GaussianRNG.MODIFIED_ZIGGURAT);
+    }
+
+    @Test
+    void testFillBufferFast() {
+        testFillBuffer(GaussianRNG.FAST_RNG);
+    }
+
+    @Test
+    void testFillBufferGeneral() {
+        testFillBuffer(GaussianRNG.GENERAL_RNG);
+    }
+
+    @Test
+    void testUniformSourceFast() {
+        testUniformSource(GaussianRNG.FAST_RNG);
+    }
+
+    @Test
+    void testUniformSourceGeneral() {
+        testUniformSource(GaussianRNG.GENERAL_RNG);
+    }
+
+    @Test
+    void testSplittableRandomFast() {
+        testSplittableRandom(GaussianRNG.FAST_RNG);
+    }
+
+    @Test
+    void testSplittableRandomGeneral() {
+        testSplittableRandom(GaussianRNG.GENERAL_RNG);
+    }
+
+    static Stream<Integer> nBits() {
+        return Stream.of(7, 9, 10, 12);
+    }
+
+    @ParameterizedTest
+    @MethodSource("nBits")
+    void testFastWithNBits(int nBits) {
+        test(GaussianRNG.ziggurat(nBits));
+    }
+
+    @ParameterizedTest
+    @MethodSource("nBits")
+    void testGeneralWithNBits(int nBits) {
+        test(GaussianRNG.generalZiggurat(nBits));
+    }
+
+    @Test
+    void testZigguratFactory() {
+        assertThat(GaussianRNG.ziggurat(8)).isSameAs(GaussianRNG.FAST_RNG);
+        assertThat(GaussianRNG.generalZiggurat(8)).isSameAs(GaussianRNG.GENERAL_RNG);
+
+        assertThatThrownBy(() -> GaussianRNG.ziggurat(11))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GaussianRNG.generalZiggurat(13))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static Stream<Double> tailBounds() {
+        return Stream.of(-1.0, 0.5, 1.0, 3.0, 8.0);
+    }
+
+    /**
+     * Tests {@link GaussianRNG#tail(Random, double)} via the probability integral transform
+     * {@code Φ(-x) / Φ(-r)}, which is uniformly distributed on {@code (0, 1)}.
+     */
+    @ParameterizedTest
+    @MethodSource("tailBounds")
+    void testTail(double r) {
+        NormalDistribution normal = new NormalDistribution(null, 0.0, 1.0);
+        double tailProbability = normal.cumulativeProbability(-r);
+
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(new UniformRealDistribution(null, 0.0, 1.0))
+                .randomNumberGenerator("Gaussian tail (r = " + r + ")", random -> {
+                    double x = GaussianRNG.tail(random, r);
+                    assertThat(x).isGreaterThan(r);
+                    return normal.cumulativeProbability(-x) / tailProbability;
+                })
+                .numRandomValues(2_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+
+    @Test
+    void testTailWithInvalidBound() {
+        Random random = new Random(12345);
+
+        assertThatThrownBy(() -> GaussianRNG.tail(random, Double.NaN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GaussianRNG.tail(random, Double.POSITIVE_INFINITY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> GaussianRNG.tail(random, Double.NEGATIVE_INFINITY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private void test(GaussianRNG rng) {
         GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
                 .probabilityDistribution(ProbabilityDistributions.gaussian(0.0, 1.0))
@@ -28,4 +162,85 @@ class GaussianRNGTest {
                 .build()
                 .testAndVerify(gofTest);
     }
+
+    private void testFill(GaussianRNG rng) {
+        final int n = 100_000;
+        final double mean = 10.0;
+        final double sd = 0.5;
+
+        Random expectedRandom = new Random(12345);
+        double[] expected = new double[n + 2];
+        for (int i = 1; i <= n; i++) {
+            expected[i] = mean + sd * rng.generate(expectedRandom);
+        }
+
+        Random random = new Random(12345);
+        double[] actual = new double[n + 2];
+        rng.fill(random, actual, 1, n, mean, sd);
+
+        assertThat(actual).containsExactly(expected);
+
+        assertThatThrownBy(() -> rng.fill(random, actual, 3, n))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private void testUniformSource(GaussianRNG rng) {
+        final int n = 100_000;
+
+        Random random = new Xoshiro256PlusPlus(12345);
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(random);
+        }
+
+        UniformSource source = new Xoshiro256PlusPlus(12345)::nextLong;
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = rng.generate(source);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testSplittableRandom(GaussianRNG rng) {
+        final int n = 1_000_000;
+
+        UniformSource source = UniformSource.of(new SplittableRandom(12345));
+        double[] expected = new double[n];
+        for (int i = 0; i < n; i++) {
+            expected[i] = rng.generate(source);
+        }
+
+        SplittableRandom random = new SplittableRandom(12345);
+        double[] actual = new double[n];
+        for (int i = 0; i < n; i++) {
+            actual[i] = rng.generate(random);
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private void testFillBuffer(GaussianRNG rng) {
+        final int n = 100_000;
+        final double mean = 10.0;
+        final double sd = 0.5;
+
+        double[] expected = new double[n];
+        rng.fill(new Random(12345), expected, 0, n, mean, sd);
+
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(n * Double.BYTES + 12).order(ByteOrder.nativeOrder());
+        byteBuffer.position(8);
+        rng.fill(new Random(12345), byteBuffer, mean, sd);
+        assertThat(byteBuffer.position()).isEqualTo(n * Double.BYTES + 8);
+
+        byteBuffer.position(8);
+        double[] actual = new double[n];
+        byteBuffer.asDoubleBuffer().get(actual);
+        assertThat(actual).isEqualTo(expected);
+
+        DoubleBuffer heapBuffer = DoubleBuffer.allocate(n);
+        rng.fill(new Random(12345), heapBuffer, mean, sd);
+        assertThat(heapBuffer.hasRemaining()).isFalse();
+        assertThat(heapBuffer.array()).isEqualTo(expected);
+    }
 }
@@ -0,0 +1,163 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.test.SecondLevelTest;
+import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.test.util.distribution.ProbabilityDistributions;
+import biz.k11i.rng.uniform.SplitMix64;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class MultivariateGaussianRNGTest {
+    private static final double[] MEAN = {1.0, -2.0, 0.5, 10.0, 0.0};
+    private static final double[][] COVARIANCE = {
+            {4.0, 1.2, -0.8, 0.0, 0.3},
+            {1.2, 1.0, 0.1, 0.2, 0.0},
+            {-0.8, 0.1, 2.0, -0.5, 0.4},
+            {0.0, 0.2, -0.5, 1.0, 0.0},
+            {0.3, 0.0, 0.4, 0.0, 9.0}};
+
+    /**
+     * Tests the standardized linear combination {@code w^T (x - μ) / sqrt(w^T Σ w)}, which follows {@code N(0, 1)}.
+     */
+    @Test
+    void testLinearCombination() {
+        MultivariateGaussianRNG rng = MultivariateGaussianRNG.of(MEAN, COVARIANCE);
+        double[] w = {0.3, -1.0, 0.7, 2.0, 0.1};
+
+        double variance = 0;
+        for (int i = 0; i < w.length; i++) {
+            for (int j = 0; j < w.length; j++) {
+                variance += w[i] * COVARIANCE[i][j] * w[j];
+            }
+        }
+        double sd = Math.sqrt(variance);
+
+        ThreadLocal<double[]> buffers = ThreadLocal.withInitial(() -> new double[MEAN.length]);
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(ProbabilityDistributions.gaussian(0.0, 1.0))
+                .randomNumberGenerator("MultivariateGaussian", r -> {
+                    double[] x = buffers.get();
+                    rng.generate(r, x, 0);
+
+                    double s = 0;
+                    for (int i = 0; i < x.length; i++) {
+                        s += w[i] * (x[i] - MEAN[i]);
+                    }
+                    return s / sd;
+                })
+                .numRandomValues(2_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+
+    @Test
+    void testMoments() {
+        final int n = 400_000;
+        final int d = MEAN.length;
+
+        MultivariateGaussianRNG rng = MultivariateGaussianRNG.of(MEAN, COVARIANCE);
+        assertThat(rng.dimension()).isEqualTo(d);
+
+        double[] x = new double[n * d + 2];
+        rng.generate(new Xoshiro256PlusPlus(12345), x, 1, n);
+        assertThat(x[0]).isZero();
+        assertThat(x[n * d + 1]).isZero();
+
+        double[] sum = new double[d];
+        for (int r = 0; r < n; r++) {
+            for (int i = 0; i < d; i++) {
+                sum[i] += x[1 + r * d + i];
+            }
+        }
+
+        for (int i = 0; i < d; i++) {
+            double mean = sum[i] / n;
+            assertThat(mean).isCloseTo(MEAN[i], within(6 * Math.sqrt(COVARIANCE[i][i] / n)));
+
+            for (int j = 0; j <= i; j++) {
+                double c = 0;
+                for (int r = 0; r < n; r++) {
+                    c += (x[1 + r * d + i] - MEAN[i]) * (x[1 + r * d + j] - MEAN[j]);
+                }
+                double tolerance = 6 * Math.sqrt((COVARIANCE[i][i] * COVARIANCE[j][j] + COVARIANCE[i][j] * COVARIANCE[i][j]) / n);
+                assertThat(c / n).isCloseTo(COVARIANCE[i][j], within(tolerance));
+            }
+        }
+    }
+
+    @Test
+    void testParallel() {
+        final int d = 100;
+        final int n = 3 * (ParallelFill.BLOCK_SIZE / d) + 17;
+
+        double[] mean = new double[d];
+        double[][] covariance = new double[d][d];
+        for (int i = 0; i < d; i++) {
+            mean[i] = i;
+            for (int j = 0; j < d; j++) {
+                covariance[i][j] = Math.pow(0.9, Math.abs(i - j));
+            }
+        }
+        MultivariateGaussianRNG rng = MultivariateGaussianRNG.of(mean, covariance);
+
+        double[] expected = new double[n * d];
+        int rowsPerTask = ParallelFill.BLOCK_SIZE / d;
+        for (int b = 0, row = 0; row < n; b++, row += rowsPerTask) {
+            rng.generate(new SplitMix64(42, b), expected, row * d, Math.min(rowsPerTask, n - row));
+        }
+
+        for (int parallelism : new int[]{1, 4}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                double[] actual = new double[n * d + 1];
+                rng.generate(actual, 1, n, 42, pool);
+
+                assertThat(actual[0]).isZero();
+                assertThat(Arrays.copyOfRange(actual, 1, n * d + 1)).containsExactly(expected);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThatThrownBy(() -> MultivariateGaussianRNG.of(new double[0], new double[0][0]))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultivariateGaussianRNG.of(new double[2], new double[][]{{1.0, 0.0}}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultivariateGaussianRNG.of(new double[2], new double[][]{{1.0, 0.0}, {0.0}}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultivariateGaussianRNG.of(new double[2], new double[][]{{1.0, 2.0}, {2.0, 1.0}}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MultivariateGaussianRNG.of(new double[2], new double[][]{{1.0, 0.0}, {0.0, Double.NaN}}))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // the packed Cholesky factor of dimension 65536 has 2^31 + 2^15 elements; the rows share one array
+        double[][] huge = new double[65536][];
+        Arrays.fill(huge, new double[65536]);
+        assertThatThrownBy(() -> MultivariateGaussianRNG.of(new double[65536], huge))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        MultivariateGaussianRNG rng = MultivariateGaussianRNG.of(MEAN, COVARIANCE);
+        Random random = new Random(12345);
+        assertThatThrownBy(() -> rng.generate(random, new double[9], 0, 2))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> rng.generate(random, new double[5], 1))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> rng.generate(random, new double[5], 0, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.SplitMix64;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelFillTest {
+    private static final int N = 3 * ParallelFill.BLOCK_SIZE + 12345;
+    private static final long SEED = 12345;
+
+    @FunctionalInterface
+    interface Filler {
+        void fill(double[] dst, long seed, ForkJoinPool pool);
+    }
+
+    @FunctionalInterface
+    interface Generator {
+        double generate(Random random);
+    }
+
+    @Test
+    void testGaussian() {
+        test((dst, seed, pool) -> ParallelFill.gaussian(dst, seed, pool), GaussianRNG.FAST_RNG::generate);
+    }
+
+    @Test
+    void testGaussianWithParameters() {
+        test((dst, seed, pool) -> ParallelFill.gaussian(dst, 10.0, 0.5, seed, pool),
+                random -> 10.0 + 0.5 * GaussianRNG.FAST_RNG.generate(random));
+    }
+
+    @Test
+    void testExponential() {
+        test((dst, seed, pool) -> ParallelFill.exponential(dst, 2.0, seed, pool),
+                random -> ExponentialRNG.FAST_RNG.generate(random, 2.0));
+    }
+
+    @Test
+    void testGamma() {
+        test((dst, seed, pool) -> ParallelFill.gamma(dst, 0.5, 2.0, seed, pool),
+                random -> GammaRNG.FAST_RNG.generate(random, 0.5, 2.0));
+    }
+
+    @Test
+    void testBeta() {
+        test((dst, seed, pool) -> ParallelFill.beta(dst, 2.0, 3.0, seed, pool),
+                random -> BetaRNG.FAST_RNG.generate(random, 2.0, 3.0));
+    }
+
+    /**
+     * The result should be the same as the sequential generation block by block, regardless of the parallelism.
+     */
+    private void test(Filler filler, Generator generator) {
+        double[] expected = new double[N];
+        for (int block = 0, off = 0; off < N; block++, off += ParallelFill.BLOCK_SIZE) {
+            Random random = new SplitMix64(SEED, block);
+            for (int i = off, end = Math.min(off + ParallelFill.BLOCK_SIZE, N); i < end; i++) {
+                expected[i] = generator.generate(random);
+            }
+        }
+
+        for (int parallelism : new int[]{1, 2, 5}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                double[] actual = new double[N];
+                filler.fill(actual, SEED, pool);
+
+                assertThat(actual).isEqualTo(expected);
+
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        double[] empty = new double[0];
+        filler.fill(empty, SEED, ForkJoinPool.commonPool());
+    }
+}
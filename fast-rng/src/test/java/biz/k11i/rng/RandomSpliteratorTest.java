@@ -0,0 +1,95 @@
+package biz.k11i.rng;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongFunction;
+import java.util.stream.DoubleStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RandomSpliteratorTest {
+    private static final int N = 3 * ParallelFill.BLOCK_SIZE + 12345;
+    private static final long SEED = 12345;
+
+    @FunctionalInterface
+    interface Filler {
+        void fill(double[] dst, long seed, ForkJoinPool pool);
+    }
+
+    @Test
+    void testGaussian() {
+        test(seed -> GaussianRNG.FAST_RNG.stream(seed, N), ParallelFill::gaussian);
+    }
+
+    @Test
+    void testExponential() {
+        test(seed -> ExponentialRNG.FAST_RNG.stream(seed, N, 2.0),
+                (dst, seed, pool) -> ParallelFill.exponential(dst, 2.0, seed, pool));
+    }
+
+    @Test
+    void testGamma() {
+        test(seed -> GammaRNG.FAST_RNG.stream(seed, N, 0.7, 3.0),
+                (dst, seed, pool) -> ParallelFill.gamma(dst, 0.7, 3.0, seed, pool));
+    }
+
+    @Test
+    void testBeta() {
+        test(seed -> BetaRNG.FAST_RNG.stream(seed, N, 0.5, 2.5),
+                (dst, seed, pool) -> ParallelFill.beta(dst, 0.5, 2.5, seed, pool));
+    }
+
+    private static void test(LongFunction<DoubleStream> streamFactory, Filler filler) {
+        double[] expected = new double[N];
+        filler.fill(expected, SEED, new ForkJoinPool(1));
+
+        assertThat(streamFactory.apply(SEED).toArray()).isEqualTo(expected);
+        assertThat(streamFactory.apply(SEED).parallel().toArray()).isEqualTo(expected);
+        assertThat(new ForkJoinPool(3).submit(() -> streamFactory.apply(SEED).parallel().toArray()).join())
+                .isEqualTo(expected);
+        assertThat(streamFactory.apply(SEED).parallel().skip(ParallelFill.BLOCK_SIZE + 1).limit(10).toArray())
+                .isEqualTo(Arrays.copyOfRange(expected, ParallelFill.BLOCK_SIZE + 1, ParallelFill.BLOCK_SIZE + 11));
+    }
+
+    @Test
+    void testSplit() {
+        double[] expected = GaussianRNG.FAST_RNG.stream(SEED, N).toArray();
+
+        Spliterator.OfDouble suffix = GaussianRNG.FAST_RNG.stream(SEED, N).spliterator();
+        assertThat(suffix.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED)).isTrue();
+        assertThat(suffix.getExactSizeIfKnown()).isEqualTo(N);
+
+        // advance into the first block before splitting
+        double[] actual = new double[N];
+        int[] count = {0};
+        suffix.tryAdvance((double d) -> actual[count[0]++] = d);
+
+        Spliterator.OfDouble prefix = suffix.trySplit();
+        assertThat(prefix).isNotNull();
+        assertThat(prefix.getExactSizeIfKnown() + suffix.getExactSizeIfKnown()).isEqualTo(N - 1);
+        assertThat(suffix.getExactSizeIfKnown() % ParallelFill.BLOCK_SIZE).isEqualTo(N % ParallelFill.BLOCK_SIZE);
+
+        prefix.forEachRemaining((double d) -> actual[count[0]++] = d);
+        suffix.forEachRemaining((double d) -> actual[count[0]++] = d);
+
+        assertThat(count[0]).isEqualTo(N);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void testSmallStreamIsNotSplit() {
+        Spliterator.OfDouble spliterator = GaussianRNG.FAST_RNG.stream(SEED, 100).spliterator();
+        assertThat(spliterator.trySplit()).isNull();
+        assertThat(GaussianRNG.FAST_RNG.stream(SEED, 0).count()).isZero();
+    }
+
+    @Test
+    void testNegativeSize() {
+        assertThatThrownBy(() -> GaussianRNG.FAST_RNG.stream(SEED, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.test.SecondLevelTest;
+import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.test.util.distribution.ProbabilityDistributions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThreadLocalRNGTest {
+    @Test
+    void testGaussian() {
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(ProbabilityDistributions.gaussian(1.0, 2.0))
+                .randomNumberGenerator("ThreadLocalRNG.gaussian", ignore -> ThreadLocalRNG.gaussian(1.0, 2.0))
+                .numRandomValues(2_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+
+    @Test
+    void testGamma() {
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(ProbabilityDistributions.gamma(2.5, 0.5))
+                .randomNumberGenerator("ThreadLocalRNG.gamma", ignore -> ThreadLocalRNG.gamma(2.5, 0.5))
+                .numRandomValues(1_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+
+    @Test
+    void testRanges() {
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(ThreadLocalRNG.exponential(2.0)).isGreaterThanOrEqualTo(0.0);
+            assertThat(ThreadLocalRNG.beta(0.5, 3.0)).isBetween(0.0, 1.0);
+            assertThat(ThreadLocalRNG.nextInt(997)).isBetween(0, 996);
+        }
+
+        assertThatThrownBy(() -> ThreadLocalRNG.nextInt(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
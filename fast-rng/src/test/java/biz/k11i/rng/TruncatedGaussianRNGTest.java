@@ -0,0 +1,127 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.test.SecondLevelTest;
+import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.apache.commons.math3.distribution.NormalDistribution;
+import org.apache.commons.math3.distribution.UniformRealDistribution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TruncatedGaussianRNGTest {
+    private static final double INF = Double.POSITIVE_INFINITY;
+
+    static Stream<Arguments> parameters() {
+        return Stream.of(
+                // uniform rejection
+                Arguments.of(0.0, 1.0, 1.0, 1.2),
+                Arguments.of(10.0, 0.1, 10.33, 10.34),
+                // table method
+                Arguments.of(0.0, 1.0, 0.5, 1.5),
+                Arguments.of(1.0, 2.0, -3.8, -1.0),
+                Arguments.of(0.0, 1.0, 2.0, 5.0),
+                // rejection from the gaussian distribution
+                Arguments.of(0.0, 1.0, -1.0, INF),
+                Arguments.of(-5.0, 3.0, -INF, INF),
+                // exponential rejection
+                Arguments.of(0.0, 1.0, 3.2, 4.0),
+                Arguments.of(0.0, 1.0, 8.0, INF),
+                Arguments.of(1.0, 0.5, -INF, -1.5));
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testGenerate(double mean, double sd, double lower, double upper) {
+        NormalDistribution normal = new NormalDistribution(null, mean, sd);
+
+        // measures the probability from the nearer tail to keep the precision in the tails
+        boolean upperTail = lower > mean;
+        double pLower = upperTail ? normal.cumulativeProbability(2 * mean - lower) : normal.cumulativeProbability(lower);
+        double pUpper = upperTail ? normal.cumulativeProbability(2 * mean - upper) : normal.cumulativeProbability(upper);
+
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(new UniformRealDistribution(null, 0.0, 1.0))
+                .randomNumberGenerator(String.format("TN(%f, %f, [%f, %f])", mean, sd, lower, upper), r -> {
+                    double x = TruncatedGaussianRNG.FAST_RNG.generate(r, mean, sd, lower, upper);
+                    assertThat(x).isBetween(lower, upper);
+
+                    double p = normal.cumulativeProbability(upperTail ? 2 * mean - x : x);
+                    return (p - pLower) / (pUpper - pLower);
+                })
+                .numRandomValues(2_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testSampler(double mean, double sd, double lower, double upper) {
+        final int n = 100_000;
+
+        TruncatedGaussianSampler sampler = TruncatedGaussianRNG.FAST_RNG.sampler(mean, sd, lower, upper);
+        assertThat(sampler.withParameters(mean, sd, lower, upper)).isSameAs(sampler);
+
+        Random expectedRandom = new Xoshiro256PlusPlus(12345);
+        Random random = new Xoshiro256PlusPlus(12345);
+        for (int i = 0; i < n; i++) {
+            assertThat(sampler.generate(random))
+                    .isEqualTo(TruncatedGaussianRNG.FAST_RNG.generate(expectedRandom, mean, sd, lower, upper));
+        }
+    }
+
+    @Test
+    void testGenerateWithArrays() {
+        final int n = 10_000;
+
+        double[] means = new double[n];
+        double[] sds = new double[n];
+        double[] lowers = new double[n];
+        double[] uppers = new double[n];
+        Random parameterRandom = new Random(1);
+        for (int i = 0; i < n; i++) {
+            means[i] = parameterRandom.nextGaussian() * 3;
+            sds[i] = 0.1 + parameterRandom.nextDouble();
+            lowers[i] = parameterRandom.nextBoolean() ? 0.0 : -INF;
+            uppers[i] = lowers[i] == 0.0 ? INF : 0.0;
+        }
+
+        double[] out = new double[n];
+        TruncatedGaussianRNG.FAST_RNG.generate(new Xoshiro256PlusPlus(12345), means, sds, lowers, uppers, out);
+
+        Random random = new Xoshiro256PlusPlus(12345);
+        for (int i = 0; i < n; i++) {
+            assertThat(out[i])
+                    .isEqualTo(TruncatedGaussianRNG.FAST_RNG.generate(random, means[i], sds[i], lowers[i], uppers[i]))
+                    .isBetween(lowers[i], uppers[i]);
+        }
+
+        assertThatThrownBy(() -> TruncatedGaussianRNG.FAST_RNG.generate(random, means, sds, lowers, uppers, new double[n - 1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void testInvalidInterval() {
+        Random random = new Random(12345);
+
+        assertThatThrownBy(() -> TruncatedGaussianRNG.FAST_RNG.generate(random, 0.0, 1.0, 1.0, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TruncatedGaussianRNG.FAST_RNG.generate(random, 0.0, 1.0, 2.0, -2.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TruncatedGaussianRNG.FAST_RNG.generate(random, 0.0, 1.0, Double.NaN, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TruncatedGaussianRNG.FAST_RNG.sampler(0.0, 1.0, 1.0, 0.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
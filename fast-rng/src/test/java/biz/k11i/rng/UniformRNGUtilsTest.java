@@ -2,12 +2,21 @@ package biz.k11i.rng;
 
 import biz.k11i.rng.test.SecondLevelTest;
 import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
 import org.apache.commons.math3.distribution.UniformIntegerDistribution;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.util.Random;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 class UniformRNGUtilsTest {
     static Stream<Integer> bounds() {
         return Stream.of(3, 7, 997, 100_000, (1 << 30) + (1 << 29), Integer.MAX_VALUE - 1);
@@ -28,4 +37,81 @@ class UniformRNGUtilsTest {
                 .build()
                 .testAndVerify(gofTest);
     }
+
+    @ParameterizedTest
+    @MethodSource("bounds")
+    void testUniformSource(int bound) {
+        Random random = new Xoshiro256PlusPlus(12345);
+        UniformSource source = new Xoshiro256PlusPlus(12345)::nextLong;
+
+        for (int i = 0; i < 100_000; i++) {
+            assertThat(UniformRNGUtils.nextInt(source, bound)).isEqualTo(UniformRNGUtils.nextInt(random, bound));
+        }
+    }
+
+    @Test
+    void testFillBuffer() {
+        Random expected = new Xoshiro256PlusPlus(12345);
+        Random random = new Xoshiro256PlusPlus(12345);
+
+        LongBuffer longBuffer = ByteBuffer.allocateDirect(1000 * Long.BYTES).asLongBuffer();
+        UniformRNGUtils.fill(random, longBuffer);
+        assertThat(longBuffer.hasRemaining()).isFalse();
+
+        DoubleBuffer doubleBuffer = ByteBuffer.allocateDirect(1000 * Double.BYTES).asDoubleBuffer();
+        UniformRNGUtils.fill(random, doubleBuffer);
+        assertThat(doubleBuffer.hasRemaining()).isFalse();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(longBuffer.get(i)).isEqualTo(expected.nextLong());
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(doubleBuffer.get(i)).isEqualTo(expected.nextDouble());
+        }
+    }
+
+    @Test
+    void testFillByteBuffer() {
+        Random expected = new Xoshiro256PlusPlus(12345);
+        Random random = new Xoshiro256PlusPlus(12345);
+
+        // 100 values and 5 bytes of one more value, after 3 bytes that are left untouched
+        ByteBuffer byteBuffer = ByteBuffer.allocateDirect(3 + 100 * Long.BYTES + 5).order(ByteOrder.LITTLE_ENDIAN);
+        byteBuffer.position(3);
+        UniformRNGUtils.fill(random, byteBuffer);
+        assertThat(byteBuffer.hasRemaining()).isFalse();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(byteBuffer.get(i)).isZero();
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(byteBuffer.getLong(3 + i * Long.BYTES)).isEqualTo(expected.nextLong());
+        }
+        long bits = expected.nextLong();
+        for (int i = 0; i < 5; i++) {
+            assertThat(byteBuffer.get(3 + 100 * Long.BYTES + i)).isEqualTo((byte) (bits >>> (8 * i)));
+        }
+    }
+
+    @Test
+    void testFillFloat() {
+        final int n = 1001;
+        Random expected = new Xoshiro256PlusPlus(12345);
+
+        float[] dst = new float[n + 2];
+        UniformRNGUtils.fill(new Xoshiro256PlusPlus(12345), dst, 1, n);
+
+        assertThat(dst[0]).isZero();
+        assertThat(dst[n + 1]).isZero();
+        for (int i = 1; i <= n; i += 2) {
+            long bits = expected.nextLong();
+            assertThat(dst[i]).isEqualTo((bits >>> 40) / (float) (1 << 24));
+            if (i < n) {
+                assertThat(dst[i + 1]).isEqualTo((bits & 0xffffff00L) / (float) (1L << 32));
+            }
+        }
+        for (int i = 1; i <= n; i++) {
+            assertThat(dst[i]).isBetween(0.0f, Math.nextDown(1.0f));
+        }
+    }
 }
@@ -0,0 +1,168 @@
+package biz.k11i.rng;
+
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UniformSourceTest {
+    @Test
+    void testRandom() {
+        Random expected = new Random(12345);
+        UniformSource source = UniformSource.of(new Random(12345));
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(source.nextLong()).isEqualTo(expected.nextLong());
+            assertThat(source.nextDouble()).isEqualTo(expected.nextDouble());
+        }
+    }
+
+    @Test
+    void testSplittableRandom() {
+        SplittableRandom expected = new SplittableRandom(12345);
+        UniformSource source = UniformSource.of(new SplittableRandom(12345));
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(source.nextLong()).isEqualTo(expected.nextLong());
+            assertThat(source.nextDouble()).isEqualTo(expected.nextDouble());
+        }
+    }
+
+    @Test
+    void testThreadLocalRandom() {
+        UniformSource source = UniformSource.threadLocal();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(source.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+        }
+    }
+
+    @Test
+    void testDefaultNextDouble() {
+        UniformSource source = () -> -1L;
+        assertThat(source.nextDouble()).isEqualTo(1.0 - 0x1.0p-53);
+    }
+
+    /**
+     * The generators that do not implement the methods taking {@link UniformSource}
+     * should consume the same uniform random numbers through the adapter.
+     */
+    @Test
+    void testGeneratorWithoutUniformSourceSupport() {
+        GaussianRNG rng = random -> random.nextInt() + random.nextDouble();
+
+        Random random = new Xoshiro256PlusPlus(12345);
+        UniformSource source = new Xoshiro256PlusPlus(12345)::nextLong;
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(rng.generate(source)).isEqualTo(rng.generate(random));
+        }
+    }
+
+    /**
+     * The generators of this library should draw random values from {@link UniformSource} without allocating objects.
+     */
+    @Test
+    void testNoAllocation() {
+        UniformSource source = new Xoshiro256PlusPlus(12345)::nextLong;
+        long allocated = measureAllocatedBytes(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                generateAll(source);
+            }
+        });
+
+        // one object per iteration would amount to more than 160 KB
+        assertThat(allocated).isLessThan(16 * 1024);
+    }
+
+    /**
+     * The {@link SplittableRandom} overloads should not wrap {@link SplittableRandom} for each value;
+     * only the slow paths of the ziggurats adapt it to {@link UniformSource}.
+     */
+    @Test
+    void testSplittableRandomAllocation() {
+        SplittableRandom random = new SplittableRandom(12345);
+        long allocated = measureAllocatedBytes(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                generateAll(random);
+            }
+        });
+
+        // a wrapper of 16 bytes per value would amount to 16 bytes * 26 values * 10,000 iterations
+        assertThat(allocated).isLessThan(26 * 10_000);
+    }
+
+    private static long measureAllocatedBytes(Runnable task) {
+        // loads and initializes the classes before the measurement
+        task.run();
+
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long before = bean.getThreadAllocatedBytes(threadId);
+        task.run();
+        return bean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static final GaussianRNG[] GAUSSIAN_RNGS = {
+            GaussianRNG.FAST_RNG, GaussianRNG.GENERAL_RNG, GaussianRNG.MODIFIED_ZIGGURAT};
+    private static final ExponentialRNG[] EXPONENTIAL_RNGS = {
+            ExponentialRNG.FAST_RNG, ExponentialRNG.GENERAL_RNG, ExponentialRNG.MODIFIED_ZIGGURAT};
+    private static final GammaRNG[] GAMMA_RNGS = {GammaRNG.FAST_RNG, GammaRNG.GENERAL_RNG};
+    private static final BetaRNG[] BETA_RNGS = {BetaRNG.FAST_RNG, BetaRNG.GENERAL_RNG};
+
+    /** Best, Marsaglia-Tsang with and without boosting, exponential and Wilson-Hilferty */
+    private static final double[] GAMMA_SHAPES = {0.05, 0.5, 1.0, 2.5, 60.0};
+
+    /** Jöhnk, B00, two gamma variates, CDF inversion, uniform and Jöhnk for the special case */
+    private static final double[][] BETA_PARAMETERS = {{0.3, 0.4}, {0.8, 0.9}, {2.0, 3.0}, {0.5, 1.0}, {1.0, 1.0}, {0.05, 2.0}};
+
+    private static double generateAll(UniformSource source) {
+        double sum = 0;
+
+        for (GaussianRNG rng : GAUSSIAN_RNGS) {
+            sum += rng.generate(source);
+        }
+        sum += GaussianRNG.tail(source, 5.0) + GaussianRNG.tail(source, 0.5);
+
+        for (ExponentialRNG rng : EXPONENTIAL_RNGS) {
+            sum += rng.generate(source, 1.0);
+        }
+
+        for (GammaRNG rng : GAMMA_RNGS) {
+            for (double shape : GAMMA_SHAPES) {
+                sum += rng.generate(source, shape, 1.0);
+            }
+        }
+
+        for (BetaRNG rng : BETA_RNGS) {
+            for (double[] p : BETA_PARAMETERS) {
+                sum += rng.generate(source, p[0], p[1]);
+            }
+        }
+
+        return sum;
+    }
+
+    private static double generateAll(SplittableRandom random) {
+        double sum = GaussianRNG.FAST_RNG.generate(random) + GaussianRNG.GENERAL_RNG.generate(random)
+                + ExponentialRNG.FAST_RNG.generate(random, 1.0) + ExponentialRNG.GENERAL_RNG.generate(random, 1.0);
+
+        for (GammaRNG rng : GAMMA_RNGS) {
+            for (double shape : GAMMA_SHAPES) {
+                sum += rng.generate(random, shape, 1.0);
+            }
+        }
+
+        for (BetaRNG rng : BETA_RNGS) {
+            for (double[] p : BETA_PARAMETERS) {
+                sum += rng.generate(random, p[0], p[1]);
+            }
+        }
+
+        return sum;
+    }
+}
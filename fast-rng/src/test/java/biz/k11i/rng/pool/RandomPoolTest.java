@@ -0,0 +1,154 @@
+package biz.k11i.rng.pool;
+
+import biz.k11i.rng.ExponentialRNG;
+import biz.k11i.rng.GaussianRNG;
+import biz.k11i.rng.uniform.Xoshiro256PlusPlus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RandomPoolTest {
+    private static final int N = 300_000;
+    private static final long SEED = 12345;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void testGaussian() throws IOException {
+        Path path = dir.resolve("gaussian.pool");
+        RandomPool.Header header = new RandomPool.Header("gaussian", new double[]{10.0, 0.5}, SEED, "Xoshiro256PlusPlus");
+        RandomPool.write(path, header, N,
+                RandomPool.gaussian(GaussianRNG.FAST_RNG, new Xoshiro256PlusPlus(SEED), 10.0, 0.5));
+
+        double[] expected = new double[N];
+        GaussianRNG.FAST_RNG.fill(new Xoshiro256PlusPlus(SEED), expected, 0, N, 10.0, 0.5);
+
+        try (RandomPool pool = RandomPool.open(path)) {
+            assertThat(pool.size()).isEqualTo(N);
+            assertThat(pool.header().getDistribution()).isEqualTo("gaussian");
+            assertThat(pool.header().getParameters()).containsExactly(10.0, 0.5);
+            assertThat(pool.header().getSeed()).isEqualTo(SEED);
+            assertThat(pool.header().getEngine()).isEqualTo("Xoshiro256PlusPlus");
+
+            assertThat(readAll(pool.doubles())).isEqualTo(expected);
+            assertThat(pool.getDouble(N - 1)).isEqualTo(expected[N - 1]);
+        }
+    }
+
+    @Test
+    void testExponential() throws IOException {
+        Path path = dir.resolve("exponential.pool");
+        RandomPool.Header header = new RandomPool.Header("exponential", new double[]{2.0}, SEED, "Xoshiro256PlusPlus");
+        RandomPool.write(path, header, N,
+                RandomPool.exponential(ExponentialRNG.FAST_RNG, new Xoshiro256PlusPlus(SEED), 2.0));
+
+        double[] expected = new double[N];
+        ExponentialRNG.FAST_RNG.fill(new Xoshiro256PlusPlus(SEED), expected, 0, N, 2.0);
+
+        try (RandomPool pool = RandomPool.open(path)) {
+            assertThat(readAll(pool.doubles())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testUniformReplay() throws IOException {
+        Path path = dir.resolve("uniform.pool");
+        RandomPool.Header header = new RandomPool.Header("uniform", new double[0], SEED, "Xoshiro256PlusPlus");
+        RandomPool.write(path, header, N, RandomPool.uniform(new Xoshiro256PlusPlus(SEED)));
+
+        Random expected = new Xoshiro256PlusPlus(SEED);
+        try (RandomPool pool = RandomPool.open(path)) {
+            Random actual = pool.asRandom();
+            for (int i = 0; i < 10_000; i++) {
+                assertThat(actual.nextLong()).isEqualTo(expected.nextLong());
+                assertThat(actual.nextDouble()).isEqualTo(expected.nextDouble());
+                assertThat(actual.nextInt()).isEqualTo(expected.nextInt());
+                assertThat(GaussianRNG.FAST_RNG.generate(actual)).isEqualTo(GaussianRNG.FAST_RNG.generate(expected));
+            }
+        }
+    }
+
+    @Test
+    void testSegments() throws IOException {
+        Path path = dir.resolve("segments.pool");
+        RandomPool.Header header = new RandomPool.Header("uniform", new double[0], SEED, "Xoshiro256PlusPlus");
+        RandomPool.write(path, header, 1001, RandomPool.uniform(new Xoshiro256PlusPlus(SEED)));
+
+        Random expected = new Xoshiro256PlusPlus(SEED);
+        try (RandomPool pool = RandomPool.open(path, 64)) {
+            for (long i = 0; i < pool.size(); i++) {
+                assertThat(pool.getLong(i)).isEqualTo(expected.nextLong());
+            }
+        }
+    }
+
+    @Test
+    void testExhausted() throws IOException {
+        Path path = dir.resolve("exhausted.pool");
+        RandomPool.Header header = new RandomPool.Header("uniform", new double[0], SEED, "Xoshiro256PlusPlus");
+        RandomPool.write(path, header, 3, RandomPool.uniform(new Xoshiro256PlusPlus(SEED)));
+
+        try (RandomPool pool = RandomPool.open(path)) {
+            Random random = pool.asRandom();
+            random.nextLong();
+            random.nextLong();
+            random.nextLong();
+            assertThatThrownBy(random::nextLong).isInstanceOf(NoSuchElementException.class);
+
+            DoubleSupplier doubles = pool.doubles();
+            readAll(doubles, 3);
+            assertThatThrownBy(doubles::getAsDouble).isInstanceOf(NoSuchElementException.class);
+
+            assertThatThrownBy(() -> pool.getLong(3)).isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> pool.getLong(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+    }
+
+    @Test
+    void testInvalidFile() throws IOException {
+        Path path = dir.resolve("invalid.pool");
+        Files.write(path, new byte[64]);
+
+        assertThatThrownBy(() -> RandomPool.open(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void testTool() throws IOException {
+        Path path = dir.resolve("tool.pool");
+        RandomPoolTool.run(new String[]{"write", path.toString(), "SplitMix64", "42", "1000", "exponential", "3.0"});
+
+        double[] expected = new double[1000];
+        ExponentialRNG.FAST_RNG.fill(RandomPoolTool.newEngine("SplitMix64", 42), expected, 0, 1000, 3.0);
+
+        try (RandomPool pool = RandomPool.open(path)) {
+            assertThat(pool.header().getEngine()).isEqualTo("SplitMix64");
+            assertThat(pool.header().getParameters()).containsExactly(3.0);
+            assertThat(readAll(pool.doubles(), 1000)).isEqualTo(expected);
+        }
+
+        assertThatThrownBy(() -> RandomPoolTool.run(new String[]{"write", path.toString(), "Unknown", "42", "1000", "uniform"}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double[] readAll(DoubleSupplier supplier) {
+        return readAll(supplier, N);
+    }
+
+    private static double[] readAll(DoubleSupplier supplier, int n) {
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = supplier.getAsDouble();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+package biz.k11i.rng.uniform;
+
+import biz.k11i.rng.GaussianRNG;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Random;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CheckpointableTest {
+    static Stream<LongFunction<Random>> engines() {
+        return Stream.of(
+                Xoshiro256PlusPlus::new,
+                Xoroshiro128PlusPlus::new,
+                seed -> new Pcg64Dxsm(seed, 0x8000_0000_0000_0003L),
+                seed -> new SplitMix64(seed, 7),
+                seed -> new Philox4x64(seed, 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    void testRestore(LongFunction<Random> factory) {
+        Random original = factory.apply(12345);
+        for (int i = 0; i < 1001; i++) {
+            GaussianRNG.FAST_RNG.generate(original);
+        }
+
+        long[] state = ((Checkpointable) original).saveState();
+
+        double[] expected = new double[100_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = GaussianRNG.FAST_RNG.generate(original);
+        }
+
+        Random restored = factory.apply(0);
+        ((Checkpointable) restored).restoreState(state.clone());
+        assertThat(generate(restored, expected.length)).isEqualTo(expected);
+
+        // rewind the original generator
+        ((Checkpointable) original).restoreState(state);
+        assertThat(generate(original, expected.length)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("engines")
+    void testInvalidLength(LongFunction<Random> factory) {
+        Checkpointable checkpointable = (Checkpointable) factory.apply(12345);
+        int length = checkpointable.saveState().length;
+
+        assertThatThrownBy(() -> checkpointable.restoreState(new long[length + 1]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static double[] generate(Random random, int n) {
+        double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = GaussianRNG.FAST_RNG.generate(random);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,50 @@
+package biz.k11i.rng.uniform;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Pcg64DxsmTest {
+    /**
+     * Expected values are computed by the reference implementation using 128-bit integers.
+     */
+    @Test
+    void testNextLong() {
+        Pcg64Dxsm random = new Pcg64Dxsm(42);
+        assertThat(random.nextLong()).isEqualTo(0xbaa5e791231ecea0L);
+        assertThat(random.nextLong()).isEqualTo(0x7536534c5a8de975L);
+        assertThat(random.nextLong()).isEqualTo(0x1a93befc3940f8f6L);
+
+        random = new Pcg64Dxsm(42, 54);
+        assertThat(random.nextLong()).isEqualTo(0xf0847c9518bddb90L);
+        assertThat(random.nextLong()).isEqualTo(0x8e7d5f5514ba8aaaL);
+        assertThat(random.nextLong()).isEqualTo(0x86fbd36f8028f6fdL);
+
+        random = new Pcg64Dxsm(0x0123456789abcdefL, 0xfedcba9876543210L);
+        assertThat(random.nextLong()).isEqualTo(0x42875405f1554488L);
+        assertThat(random.nextLong()).isEqualTo(0x6439daf8774afee0L);
+        assertThat(random.nextLong()).isEqualTo(0x4b7ed4a76d7f22e9L);
+    }
+
+    @Test
+    void testStreams() {
+        assertThat(new Pcg64Dxsm(42, 0).nextLong()).isEqualTo(new Pcg64Dxsm(42).nextLong());
+        assertThat(new Pcg64Dxsm(42, 1).nextLong()).isNotEqualTo(new Pcg64Dxsm(42, 2).nextLong());
+    }
+
+    @Test
+    void testSetSeedKeepsStream() {
+        Pcg64Dxsm random = new Pcg64Dxsm(1, 54);
+        random.nextLong();
+        random.setSeed(42);
+
+        assertThat(random.nextLong()).isEqualTo(0xf0847c9518bddb90L);
+    }
+
+    @Test
+    void testUnsignedMultiplyHigh() {
+        assertThat(Pcg64Dxsm.unsignedMultiplyHigh(-1L, -1L)).isEqualTo(-2L);
+        assertThat(Pcg64Dxsm.unsignedMultiplyHigh(1L << 32, 1L << 32)).isEqualTo(1L);
+        assertThat(Pcg64Dxsm.unsignedMultiplyHigh(0x0123456789abcdefL, 0xfedcba9876543210L)).isEqualTo(0x0121fa00ad77d742L);
+    }
+}
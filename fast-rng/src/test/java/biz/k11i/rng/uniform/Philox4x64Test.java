@@ -0,0 +1,103 @@
+package biz.k11i.rng.uniform;
+
+import biz.k11i.rng.GaussianRNG;
+import biz.k11i.rng.test.SecondLevelTest;
+import biz.k11i.rng.test.gof.GoodnessOfFitTest;
+import biz.k11i.rng.test.util.distribution.ProbabilityDistributions;
+import org.apache.commons.math3.distribution.UniformRealDistribution;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Philox4x64Test {
+    /**
+     * Expected values are the known-answer vectors of the reference implementation (Random123).
+     */
+    @Test
+    void testBlock() {
+        long[] out = new long[4];
+
+        Philox4x64.block(0, 0, 0, 0, 0, 0, out);
+        assertThat(out).containsExactly(0x16554d9eca36314cL, 0xdb20fe9d672d0fdcL, 0xd7e772cee186176bL, 0x7e68b68aec7ba23bL);
+
+        Philox4x64.block(-1L, -1L, -1L, -1L, -1L, -1L, out);
+        assertThat(out).containsExactly(0x87b092c3013fe90bL, 0x438c3c67be8d0224L, 0x9cc7d7c69cd777b6L, 0xa09caebf594f0ba0L);
+
+        Philox4x64.block(
+                0x452821e638d01377L, 0xbe5466cf34e90c6cL,
+                0x243f6a8885a308d3L, 0x13198a2e03707344L, 0xa4093822299f31d0L, 0x082efa98ec4e6c89L,
+                out);
+        assertThat(out).containsExactly(0xa528f45403e61d95L, 0x38c72dbd566e9788L, 0xa5a1610e72fd18b5L, 0x57bd43b5e52b7fe6L);
+    }
+
+    @Test
+    void testAt() {
+        assertThat(Philox4x64.at(42, 0)).isEqualTo(0xa7687e2d34c89dc6L);
+        assertThat(Philox4x64.at(42, 5)).isEqualTo(0x307266b65cc8797eL);
+        assertThat(Philox4x64.at(0x0123456789abcdefL, 1000003)).isEqualTo(0x11c4e261b3ee1403L);
+    }
+
+    @Test
+    void testNextLongMatchesAt() {
+        Philox4x64 random = new Philox4x64(42);
+        for (long n = 0; n < 1000; n++) {
+            assertThat(random.getCounter()).isEqualTo(n);
+            assertThat(random.nextLong()).isEqualTo(Philox4x64.at(42, n));
+        }
+
+        random = new Philox4x64(42, 998);
+        assertThat(random.nextLong()).isEqualTo(Philox4x64.at(42, 998));
+
+        random.setCounter(3);
+        assertThat(random.nextLong()).isEqualTo(Philox4x64.at(42, 3));
+        assertThat(random.nextLong()).isEqualTo(Philox4x64.at(42, 4));
+
+        random.setSeed(7);
+        assertThat(random.getKey()).isEqualTo(7);
+        assertThat(random.nextLong()).isEqualTo(Philox4x64.at(7, 0));
+    }
+
+    @Test
+    void testDerivedValues() {
+        long value = Philox4x64.at(42, 0);
+
+        assertThat(new Philox4x64(42).nextInt()).isEqualTo((int) (value >>> 32));
+        assertThat(new Philox4x64(42).nextDouble()).isEqualTo((value >>> 11) * 0x1.0p-53);
+    }
+
+    @Test
+    void testGaussianWithSequentialStream() {
+        AtomicLong keys = new AtomicLong();
+        ThreadLocal<Philox4x64> philox = ThreadLocal.withInitial(() -> new Philox4x64(keys.getAndIncrement()));
+
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(ProbabilityDistributions.gaussian(0.0, 1.0))
+                .randomNumberGenerator("Gaussian with Philox4x64", ignore -> GaussianRNG.FAST_RNG.generate(philox.get()))
+                .numRandomValues(2_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+
+    @Test
+    void testUniformWithRandomAccess() {
+        // Draws value #N of path #P for small P as in sharded simulations.
+        // N is taken from the whole 64-bit range so that no position is drawn twice, which would break the spacing test.
+        GoodnessOfFitTest gofTest = GoodnessOfFitTest.continuous()
+                .probabilityDistribution(new UniformRealDistribution(0.0, 1.0))
+                .randomNumberGenerator("Philox4x64.at",
+                        random -> (Philox4x64.at(random.nextInt(1 << 16), random.nextLong()) >>> 11) * 0x1.0p-53)
+                .numRandomValues(2_000_000)
+                .build();
+
+        SecondLevelTest.builder()
+                .numIterations(20)
+                .build()
+                .testAndVerify(gofTest);
+    }
+}
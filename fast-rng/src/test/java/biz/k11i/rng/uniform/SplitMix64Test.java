@@ -0,0 +1,34 @@
+package biz.k11i.rng.uniform;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SplitMix64Test {
+    @Test
+    void testNextLong() {
+        SplitMix64 random = new SplitMix64(12345);
+        SplittableRandom expected = new SplittableRandom(12345);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(random.nextLong()).isEqualTo(expected.nextLong());
+        }
+    }
+
+    @Test
+    void testStreams() {
+        assertThat(new SplitMix64(42, 1).nextLong()).isNotEqualTo(new SplitMix64(42, 2).nextLong());
+        assertThat(new SplitMix64(42, 1).nextLong()).isEqualTo(new SplitMix64(42, 1).nextLong());
+    }
+
+    @Test
+    void testSetSeedKeepsStream() {
+        SplitMix64 random = new SplitMix64(1, 54);
+        random.nextLong();
+        random.setSeed(42);
+
+        assertThat(random.nextLong()).isEqualTo(new SplitMix64(42, 54).nextLong());
+    }
+}
@@ -0,0 +1,62 @@
+package biz.k11i.rng.uniform;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Xoroshiro128PlusPlusTest {
+    private static final long S0 = 0x0123456789abcdefL;
+    private static final long S1 = 0xfedcba9876543210L;
+
+    /**
+     * Expected values are computed by the reference implementation.
+     */
+    @Test
+    void testNextLong() {
+        Xoroshiro128PlusPlus random = new Xoroshiro128PlusPlus(S0, S1);
+
+        assertThat(random.nextLong()).isEqualTo(0x0123456789abcdeeL);
+        assertThat(random.nextLong()).isEqualTo(0xa06b17e864202464L);
+        assertThat(random.nextLong()).isEqualTo(0xcc9792ef68e54a58L);
+    }
+
+    @Test
+    void testJump() {
+        Xoroshiro128PlusPlus random = new Xoroshiro128PlusPlus(S0, S1);
+        random.nextLong();
+        random.nextLong();
+        random.nextLong();
+
+        random.jump();
+        assertThat(random.nextLong()).isEqualTo(0xfd53c0155f21ed4cL);
+
+        random.longJump();
+        assertThat(random.nextLong()).isEqualTo(0x7e57860bfc440b6aL);
+    }
+
+    @Test
+    void testSeed() {
+        assertThat(new Xoroshiro128PlusPlus(42).nextLong()).isEqualTo(0xe88af6caef1d3c23L);
+
+        Xoroshiro128PlusPlus random = new Xoroshiro128PlusPlus(12345);
+        long first = random.nextLong();
+        random.setSeed(12345);
+        assertThat(random.nextLong()).isEqualTo(first);
+    }
+
+    @Test
+    void testDerivedValues() {
+        Xoroshiro128PlusPlus random = new Xoroshiro128PlusPlus(S0, S1);
+        long value = 0x0123456789abcdeeL;
+
+        assertThat(random.nextInt()).isEqualTo((int) (value >>> 32));
+        assertThat(new Xoroshiro128PlusPlus(S0, S1).nextDouble()).isEqualTo((value >>> 11) * 0x1.0p-53);
+    }
+
+    @Test
+    void testAllZeroState() {
+        assertThatThrownBy(() -> new Xoroshiro128PlusPlus(0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
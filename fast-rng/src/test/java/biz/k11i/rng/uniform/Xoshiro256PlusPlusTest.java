@@ -0,0 +1,64 @@
+package biz.k11i.rng.uniform;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Xoshiro256PlusPlusTest {
+    private static final long S0 = 0x0123456789abcdefL;
+    private static final long S1 = 0xfedcba9876543210L;
+    private static final long S2 = 0x0f1e2d3c4b5a6978L;
+    private static final long S3 = 0x8796a5b4c3d2e1f0L;
+
+    /**
+     * Expected values are computed by the reference implementation.
+     */
+    @Test
+    void testNextLong() {
+        Xoshiro256PlusPlus random = new Xoshiro256PlusPlus(S0, S1, S2, S3);
+
+        assertThat(random.nextLong()).isEqualTo(0x8f4a04bf79702ae4L);
+        assertThat(random.nextLong()).isEqualTo(0x32a963a59bd690c3L);
+        assertThat(random.nextLong()).isEqualTo(0xcdb81ce05b969beeL);
+    }
+
+    @Test
+    void testJump() {
+        Xoshiro256PlusPlus random = new Xoshiro256PlusPlus(S0, S1, S2, S3);
+        random.nextLong();
+        random.nextLong();
+        random.nextLong();
+
+        random.jump();
+        assertThat(random.nextLong()).isEqualTo(0xca0174841ec334d9L);
+
+        random.longJump();
+        assertThat(random.nextLong()).isEqualTo(0xfa06ab721dfd588cL);
+    }
+
+    @Test
+    void testSeed() {
+        assertThat(new Xoshiro256PlusPlus(42).nextLong()).isEqualTo(0xd0764d4f4476689fL);
+
+        Xoshiro256PlusPlus random = new Xoshiro256PlusPlus(12345);
+        long first = random.nextLong();
+        random.setSeed(12345);
+        assertThat(random.nextLong()).isEqualTo(first);
+    }
+
+    @Test
+    void testDerivedValues() {
+        Xoshiro256PlusPlus random = new Xoshiro256PlusPlus(S0, S1, S2, S3);
+        long value = 0x8f4a04bf79702ae4L;
+
+        assertThat(random.nextInt()).isEqualTo((int) (value >>> 32));
+        assertThat(new Xoshiro256PlusPlus(S0, S1, S2, S3).nextDouble()).isEqualTo((value >>> 11) * 0x1.0p-53);
+    }
+
+    @Test
+    void testAllZeroState() {
+        assertThatThrownBy(() -> new Xoshiro256PlusPlus(0, 0, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}